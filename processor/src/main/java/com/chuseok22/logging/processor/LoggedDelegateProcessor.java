@@ -0,0 +1,333 @@
+package com.chuseok22.logging.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * {@code @LogMonitoring} 메서드를 가진 타입마다 {@code <Type>$Logged} 위임 클래스를 생성
+ * <p>
+ * 생성된 클래스는 메서드별 메타데이터/플래그를 static final 상수로 두고, 원래 시그니처 그대로 대상 메서드를 직접 호출한다.
+ * 로깅은 {@code MethodExecutionLogger.open(...)} / {@code Call}로 프록시 경로와 같은 렌더링 코드를 사용하며,
+ * 인자 배열은 실제로 출력할 때만 만들고 조인포인트/람다는 만들지 않는다.
+ * 중첩 타입은 {@code Outer_Inner$Logged}로 생성한다.
+ */
+@SupportedAnnotationTypes(LoggedDelegateProcessor.LOG_MONITORING)
+public class LoggedDelegateProcessor extends AbstractProcessor {
+
+  static final String LOG_MONITORING = "com.chuseok22.logging.annotation.LogMonitoring";
+  static final String SUFFIX = "$Logged";
+
+  private static final String REQUEST_BODY = "org.springframework.web.bind.annotation.RequestBody";
+  private static final String METADATA = "com.chuseok22.logging.aspect.MethodMetadata";
+  private static final String LOGGER = "com.chuseok22.logging.aspect.MethodExecutionLogger";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    TypeElement annotation = processingEnv.getElementUtils().getTypeElement(LOG_MONITORING);
+    if (annotation == null) {
+      return false;
+    }
+    Map<TypeElement, List<ExecutableElement>> byType = new LinkedHashMap<>();
+    for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+      if (element.getKind() != ElementKind.METHOD) {
+        continue;
+      }
+      ExecutableElement method = (ExecutableElement) element;
+      if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC)) {
+        warn(method, "private/static 메서드는 위임 클래스를 생성하지 않습니다");
+        continue;
+      }
+      TypeElement owner = (TypeElement) method.getEnclosingElement();
+      byType.computeIfAbsent(owner, k -> new ArrayList<>()).add(method);
+    }
+    for (Map.Entry<TypeElement, List<ExecutableElement>> e : byType.entrySet()) {
+      TypeElement owner = e.getKey();
+      if (!isAccessible(owner)) {
+        warn(owner, "private 타입 또는 내부(non-static) 클래스는 위임 클래스를 생성하지 않습니다");
+        continue;
+      }
+      try {
+        write(owner, e.getValue());
+      } catch (IOException ex) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "위임 클래스 생성 실패: " + ex.getMessage(), owner);
+      }
+    }
+    // 다른 프로세서/스프링이 계속 볼 수 있도록 애노테이션을 소비하지 않음
+    return false;
+  }
+
+  private boolean isAccessible(TypeElement type) {
+    for (Element e = type; e instanceof TypeElement t; e = t.getEnclosingElement()) {
+      if (t.getModifiers().contains(Modifier.PRIVATE)) {
+        return false;
+      }
+      if (t.getNestingKind() == NestingKind.MEMBER && !t.getModifiers().contains(Modifier.STATIC)
+        && t.getKind() == ElementKind.CLASS) {
+        return false;
+      }
+      if (t.getNestingKind() == NestingKind.LOCAL || t.getNestingKind() == NestingKind.ANONYMOUS) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void write(TypeElement owner, List<ExecutableElement> methods) throws IOException {
+    PackageElement pkg = processingEnv.getElementUtils().getPackageOf(owner);
+    String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    String delegateName = delegateSimpleName(owner);
+    String ownerName = owner.getQualifiedName().toString();
+    String typeParams = typeParameters(owner.getTypeParameters());
+    String targetType = ownerName + typeArguments(owner.getTypeParameters());
+
+    StringBuilder b = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      b.append("package ").append(packageName).append(";\n\n");
+    }
+    b.append("/**\n")
+      .append(" * {@link ").append(ownerName).append("}의 @LogMonitoring 메서드를 프록시 없이 로깅하는 위임 클래스 (자동 생성, 수정 금지)\n")
+      .append(" */\n")
+      .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+      .append("public class ").append(delegateName).append(typeParams).append(" {\n\n");
+
+    List<String> constants = new ArrayList<>();
+    for (int i = 0; i < methods.size(); i++) {
+      ExecutableElement m = methods.get(i);
+      String constant = constantName(m, i);
+      constants.add(constant);
+      Flags flags = flags(m);
+      if (flags.summary) {
+        continue;
+      }
+      b.append("  private static final ").append(METADATA).append(" ").append(constant).append(" =\n")
+        .append("    ").append(METADATA).append(".of(").append(ownerName).append(".class, \"")
+        .append(m.getSimpleName()).append("\"").append(requestBodyIndices(m)).append(");\n");
+      b.append("  private static final boolean ").append(constant).append("_PARAMETERS = ").append(flags.logParameters).append(";\n");
+      b.append("  private static final boolean ").append(constant).append("_RESULT = ").append(flags.logResult).append(";\n");
+      b.append("  private static final boolean ").append(constant).append("_EXECUTION_TIME = ").append(flags.logExecutionTime).append(";\n\n");
+    }
+
+    b.append("  private final ").append(targetType).append(" target;\n")
+      .append("  private final ").append(LOGGER).append(" logger;\n\n")
+      .append("  public ").append(delegateName).append("(").append(targetType).append(" target, ")
+      .append(LOGGER).append(" logger) {\n")
+      .append("    this.target = target;\n")
+      .append("    this.logger = logger;\n")
+      .append("  }\n\n")
+      .append("  public ").append(targetType).append(" getTarget() {\n")
+      .append("    return target;\n")
+      .append("  }\n");
+
+    for (int i = 0; i < methods.size(); i++) {
+      b.append("\n");
+      writeMethod(b, methods.get(i), constants.get(i));
+    }
+    b.append("}\n");
+
+    String qualified = packageName.isEmpty() ? delegateName : packageName + "." + delegateName;
+    try (Writer w = processingEnv.getFiler().createSourceFile(qualified, owner).openWriter()) {
+      w.write(b.toString());
+    }
+  }
+
+  private void writeMethod(StringBuilder b, ExecutableElement m, String constant) {
+    List<? extends VariableElement> params = m.getParameters();
+    String returnType = m.getReturnType().toString();
+    boolean isVoid = m.getReturnType().getKind() == TypeKind.VOID;
+
+    StringBuilder signature = new StringBuilder("  public ");
+    String methodTypeParams = typeParameters(m.getTypeParameters());
+    if (!methodTypeParams.isEmpty()) {
+      signature.append(methodTypeParams).append(" ");
+    }
+    signature.append(returnType).append(" ").append(m.getSimpleName()).append("(");
+    StringBuilder args = new StringBuilder();
+    for (int i = 0; i < params.size(); i++) {
+      VariableElement p = params.get(i);
+      if (i > 0) {
+        signature.append(", ");
+        args.append(", ");
+      }
+      TypeMirror type = p.asType();
+      if (m.isVarArgs() && i == params.size() - 1 && type.getKind() == TypeKind.ARRAY) {
+        signature.append(((ArrayType) type).getComponentType()).append("... ");
+      } else {
+        signature.append(type).append(" ");
+      }
+      signature.append(p.getSimpleName());
+      args.append(p.getSimpleName());
+    }
+    signature.append(")");
+    if (!m.getThrownTypes().isEmpty()) {
+      signature.append(" throws ");
+      for (int i = 0; i < m.getThrownTypes().size(); i++) {
+        signature.append(i > 0 ? ", " : "").append(m.getThrownTypes().get(i));
+      }
+    }
+    String direct = "this.target." + m.getSimpleName() + "(" + args + ")";
+
+    b.append(signature).append(" {\n");
+    if (flags(m).summary) {
+      // SUMMARY 모드는 SummaryLoggingAspect(프록시 경로)에서만 집계
+      b.append("    ").append(isVoid ? "" : "return ").append(direct).append(";\n");
+      b.append("  }\n");
+      return;
+    }
+    b.append("    ").append(LOGGER).append(".Call $call = this.logger.open(")
+      .append(constant).append(", ").append(constant).append("_PARAMETERS, ")
+      .append(constant).append("_RESULT, ").append(constant).append("_EXECUTION_TIME);\n");
+    b.append("    if ($call == null) {\n");
+    b.append("      ").append(isVoid ? "" : "return ").append(direct).append(";\n");
+    if (isVoid) {
+      b.append("      return;\n");
+    }
+    b.append("    }\n");
+    b.append("    $call.start($call.needsArguments() ? new Object[]{").append(args).append("} : null);\n");
+    if (!isVoid) {
+      b.append("    ").append(returnType).append(" $result;\n");
+    }
+    b.append("    try {\n");
+    b.append("      ").append(isVoid ? "" : "$result = ").append(direct).append(";\n");
+    b.append("    } catch (Throwable $ex) {\n");
+    b.append("      $call.failed($ex);\n");
+    b.append("      throw $ex;\n");
+    b.append("    }\n");
+    b.append("    $call.succeeded(").append(isVoid ? "null" : "$result").append(");\n");
+    if (!isVoid) {
+      b.append("    return $result;\n");
+    }
+    b.append("  }\n");
+  }
+
+  static String delegateSimpleName(TypeElement owner) {
+    StringBuilder name = new StringBuilder(owner.getSimpleName());
+    for (Element e = owner.getEnclosingElement(); e instanceof TypeElement t; e = t.getEnclosingElement()) {
+      name.insert(0, t.getSimpleName() + "_");
+    }
+    return name.append(SUFFIX).toString();
+  }
+
+  // 오버로드를 구분하기 위해 선언 순서를 붙인 상수 이름 (placeOrder -> PLACE_ORDER_0)
+  private static String constantName(ExecutableElement m, int ordinal) {
+    String name = m.getSimpleName().toString();
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (Character.isUpperCase(c) && i > 0) {
+        b.append('_');
+      }
+      b.append(Character.toUpperCase(c));
+    }
+    return b.append('_').append(ordinal).toString().toUpperCase(Locale.ROOT);
+  }
+
+  private static String requestBodyIndices(ExecutableElement m) {
+    StringBuilder b = new StringBuilder();
+    List<? extends VariableElement> params = m.getParameters();
+    for (int i = 0; i < params.size(); i++) {
+      for (AnnotationMirror a : params.get(i).getAnnotationMirrors()) {
+        if (((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(REQUEST_BODY)) {
+          b.append(", ").append(i);
+          break;
+        }
+      }
+    }
+    return b.toString();
+  }
+
+  private static String typeParameters(List<? extends TypeParameterElement> params) {
+    if (params.isEmpty()) {
+      return "";
+    }
+    StringBuilder b = new StringBuilder("<");
+    for (int i = 0; i < params.size(); i++) {
+      TypeParameterElement p = params.get(i);
+      b.append(i > 0 ? ", " : "").append(p.getSimpleName());
+      List<? extends TypeMirror> bounds = p.getBounds();
+      boolean onlyObject = bounds.size() == 1 && "java.lang.Object".equals(bounds.get(0).toString());
+      if (!bounds.isEmpty() && !onlyObject) {
+        b.append(" extends ");
+        for (int j = 0; j < bounds.size(); j++) {
+          b.append(j > 0 ? " & " : "").append(bounds.get(j));
+        }
+      }
+    }
+    return b.append(">").toString();
+  }
+
+  private static String typeArguments(List<? extends TypeParameterElement> params) {
+    if (params.isEmpty()) {
+      return "";
+    }
+    StringBuilder b = new StringBuilder("<");
+    for (int i = 0; i < params.size(); i++) {
+      b.append(i > 0 ? ", " : "").append(params.get(i).getSimpleName());
+    }
+    return b.append(">").toString();
+  }
+
+  private Flags flags(ExecutableElement m) {
+    Flags flags = new Flags();
+    for (AnnotationMirror a : m.getAnnotationMirrors()) {
+      if (!((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(LOG_MONITORING)) {
+        continue;
+      }
+      Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+        processingEnv.getElementUtils().getElementValuesWithDefaults(a);
+      values.forEach((key, value) -> {
+        switch (key.getSimpleName().toString()) {
+          case "logParameters" -> flags.logParameters = (Boolean) value.getValue();
+          case "logResult" -> flags.logResult = (Boolean) value.getValue();
+          case "logExecutionTime" -> flags.logExecutionTime = (Boolean) value.getValue();
+          case "mode" -> flags.summary = "SUMMARY".equals(((VariableElement) value.getValue()).getSimpleName().toString());
+          default -> {
+          }
+        }
+      });
+    }
+    return flags;
+  }
+
+  private void warn(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "[logging-processor] " + message, element);
+  }
+
+  private static final class Flags {
+
+    private boolean logParameters = true;
+    private boolean logResult = true;
+    private boolean logExecutionTime = true;
+    private boolean summary;
+  }
+}
@@ -0,0 +1,144 @@
+package com.chuseok22.logging.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chuseok22.logging.aspect.MethodExecutionLogger;
+import com.chuseok22.logging.properties.HttpLoggingProperties;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LoggedDelegateProcessorTest {
+
+  private static final String SOURCE = """
+    package sample;
+
+    import com.chuseok22.logging.annotation.LogMonitoring;
+    import com.chuseok22.logging.annotation.MonitoringMode;
+    import org.springframework.web.bind.annotation.RequestBody;
+
+    public class OrderService {
+
+      @LogMonitoring
+      public int total(int a, int b) {
+        return a + b;
+      }
+
+      @LogMonitoring(logParameters = false)
+      public void reject(String reason) throws java.io.IOException {
+        throw new java.io.IOException(reason);
+      }
+
+      @LogMonitoring
+      public String echo(@RequestBody String body, String... tags) {
+        return body + tags.length;
+      }
+
+      @LogMonitoring(mode = MonitoringMode.SUMMARY)
+      public long count() {
+        return 7L;
+      }
+
+      public static class Inner {
+
+        @LogMonitoring
+        String hello() {
+          return "hi";
+        }
+      }
+    }
+    """;
+
+  @TempDir
+  static Path dir;
+
+  private static String generated;
+  private static ClassLoader loader;
+
+  @BeforeAll
+  static void compile() throws Exception {
+    Path src = dir.resolve("src/sample/OrderService.java");
+    Files.createDirectories(src.getParent());
+    Files.writeString(src, SOURCE);
+    Path gen = Files.createDirectories(dir.resolve("gen"));
+    Path classes = Files.createDirectories(dir.resolve("classes"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+      JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+        List.of("-classpath", System.getProperty("java.class.path"),
+          "-d", classes.toString(), "-s", gen.toString()),
+        null, files.getJavaFileObjects(src.toFile()));
+      task.setProcessors(List.of(new LoggedDelegateProcessor()));
+      assertThat(task.call()).as(diagnostics.getDiagnostics().toString()).isTrue();
+    }
+    generated = Files.readString(gen.resolve("sample/OrderService$Logged.java"));
+    assertThat(gen.resolve("sample/OrderService_Inner$Logged.java")).exists();
+    loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, LoggedDelegateProcessorTest.class.getClassLoader());
+  }
+
+  @Test
+  void generatesConstantsAndDirectCalls() {
+    assertThat(generated)
+      .contains("MethodMetadata.of(sample.OrderService.class, \"total\");")
+      .contains("MethodMetadata.of(sample.OrderService.class, \"echo\", 0);")
+      .contains("TOTAL_0_PARAMETERS = true;")
+      .contains("REJECT_1_PARAMETERS = false;")
+      .contains("public java.lang.String echo(java.lang.String body, java.lang.String... tags)")
+      .contains("public void reject(java.lang.String reason) throws java.io.IOException")
+      .contains("$result = this.target.total(a, b);")
+      .contains("$call.needsArguments() ? new Object[]{a, b} : null")
+      // 조인포인트/람다 없음, SUMMARY 메서드는 그대로 위임
+      .doesNotContain("ProceedingJoinPoint")
+      .doesNotContain("->")
+      .doesNotContain("COUNT_3")
+      .contains("return this.target.count();");
+  }
+
+  @Test
+  void delegatesWithLoggingEnabledAndDisabled() throws Exception {
+    HttpLoggingProperties properties = new HttpLoggingProperties();
+    Object delegate = delegate(new MethodExecutionLogger(properties));
+    Method total = delegate.getClass().getMethod("total", int.class, int.class);
+
+    assertThat(total.invoke(delegate, 2, 3)).isEqualTo(5);
+    properties.setEnabled(false);
+    assertThat(total.invoke(delegate, 4, 5)).isEqualTo(9);
+  }
+
+  @Test
+  void rethrowsCheckedExceptionsUnchanged() throws Exception {
+    Object delegate = delegate(new MethodExecutionLogger(new HttpLoggingProperties()));
+    Method reject = delegate.getClass().getMethod("reject", String.class);
+
+    assertThatThrownBy(() -> reject.invoke(delegate, "sold out"))
+      .isInstanceOf(InvocationTargetException.class)
+      .cause()
+      .isInstanceOf(IOException.class)
+      .hasMessage("sold out");
+  }
+
+  private static Object delegate(MethodExecutionLogger logger) throws Exception {
+    Class<?> target = loader.loadClass("sample.OrderService");
+    Class<?> delegate = loader.loadClass("sample.OrderService$Logged");
+    return delegate.getConstructor(target, MethodExecutionLogger.class)
+      .newInstance(target.getConstructor().newInstance(), logger);
+  }
+}
@@ -1,22 +1,67 @@
 package com.chuseok22.logging;
 
+import com.chuseok22.logging.aspect.MethodExecutionLogger;
 import com.chuseok22.logging.aspect.MethodExecutionLoggingAspect;
 import com.chuseok22.logging.properties.HttpLoggingProperties;
+import com.chuseok22.logging.summary.MethodSummaryRecorder;
+import com.chuseok22.logging.telemetry.OverheadRecorder;
+import com.chuseok22.logging.watchdog.SlowCallWatchdog;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
+/**
+ * {@code @LogMonitoring} 어드바이스 구성
+ * <p>
+ * 어드바이스는 모드와 관계없이 하나만 등록되고, DETAIL 로깅 빈은 서블릿 웹 애플리케이션에서만 만든다.
+ * (SUMMARY 집계기는 {@link SummaryLoggingAutoConfiguration})
+ */
 @AutoConfiguration
 @EnableConfigurationProperties(HttpLoggingProperties.class)
-@ConditionalOnWebApplication(type = Type.SERVLET)
 public class LoggingAutoConfiguration {
 
   @Bean
   @ConditionalOnMissingBean
-  public MethodExecutionLoggingAspect methodExecutionLoggingAspect(HttpLoggingProperties properties) {
-    return new MethodExecutionLoggingAspect(properties);
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  public MethodExecutionLogger methodExecutionLogger(HttpLoggingProperties properties,
+    ObjectProvider<SlowCallWatchdog> slowCallWatchdog,
+    ObjectProvider<OverheadRecorder> overheadRecorder) {
+    return new MethodExecutionLogger(properties, slowCallWatchdog.getIfAvailable(), overheadRecorder.getIfAvailable());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public MethodExecutionLoggingAspect methodExecutionLoggingAspect(HttpLoggingProperties properties,
+    ObjectProvider<MethodExecutionLogger> methodExecutionLogger,
+    ObjectProvider<MethodSummaryRecorder> methodSummaryRecorder) {
+    return new MethodExecutionLoggingAspect(properties,
+      methodExecutionLogger.getIfAvailable(),
+      methodSummaryRecorder.getIfAvailable());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  @ConditionalOnProperty(prefix = "chuseok22.logging", name = "self-telemetry-enabled", havingValue = "true")
+  public OverheadRecorder overheadRecorder() {
+    return new OverheadRecorder();
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  @ConditionalOnProperty(prefix = "chuseok22.logging", name = "slow-call-watchdog-enabled", havingValue = "true")
+  public SlowCallWatchdog slowCallWatchdog(HttpLoggingProperties properties) {
+    return new SlowCallWatchdog(
+      properties.getSlowCallThresholdMs(),
+      properties.getSlowCallSampleIntervalMs(),
+      properties.getSlowCallMaxSamples(),
+      properties.getSlowCallTopFrames()
+    );
   }
 }
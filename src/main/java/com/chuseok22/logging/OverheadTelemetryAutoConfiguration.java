@@ -0,0 +1,44 @@
+package com.chuseok22.logging;
+
+import com.chuseok22.logging.telemetry.OverheadEndpoint;
+import com.chuseok22.logging.telemetry.OverheadMetricsBinder;
+import com.chuseok22.logging.telemetry.OverheadRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자체 오버헤드 텔레메트리를 Micrometer 메트릭 / Actuator 엔드포인트로 노출 (각 라이브러리가 클래스패스에 있을 때만)
+ */
+@AutoConfiguration(after = LoggingAutoConfiguration.class)
+@ConditionalOnBean(OverheadRecorder.class)
+public class OverheadTelemetryAutoConfiguration {
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterRegistry.class)
+  static class MetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OverheadMetricsBinder overheadMetricsBinder(OverheadRecorder recorder) {
+      return new OverheadMetricsBinder(recorder);
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint")
+  static class EndpointConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnAvailableEndpoint
+    public OverheadEndpoint overheadEndpoint(OverheadRecorder recorder) {
+      return new OverheadEndpoint(recorder);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.chuseok22.logging;
+
+import com.chuseok22.logging.properties.HttpLoggingProperties;
+import com.chuseok22.logging.summary.MethodSummaryRecorder;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * SUMMARY 모드 집계기 구성 (서블릿 웹 애플리케이션이 아니어도 활성화, chuseok22.logging.enabled=false면 빈을 만들지 않음)
+ * <p>
+ * 어드바이스는 {@link LoggingAutoConfiguration}의 MethodExecutionLoggingAspect 하나가 모드별로 분기해 이 집계기에 위임한다.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(HttpLoggingProperties.class)
+@ConditionalOnProperty(prefix = "chuseok22.logging", name = "enabled", matchIfMissing = true)
+public class SummaryLoggingAutoConfiguration {
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  public MethodSummaryRecorder methodSummaryRecorder(HttpLoggingProperties properties) {
+    return new MethodSummaryRecorder(properties.getSummaryIntervalSeconds());
+  }
+}
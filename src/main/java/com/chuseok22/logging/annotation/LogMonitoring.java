@@ -14,4 +14,5 @@ public @interface LogMonitoring {
   boolean logParameters() default true;
   boolean logResult() default true;
   boolean logExecutionTime() default true;
+  MonitoringMode mode() default MonitoringMode.DETAIL;
 }
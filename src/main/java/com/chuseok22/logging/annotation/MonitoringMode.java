@@ -0,0 +1,10 @@
+package com.chuseok22.logging.annotation;
+
+public enum MonitoringMode {
+
+  // 호출마다 요청/인자/결과를 박스 형태로 출력 (서블릿 웹 요청 기준)
+  DETAIL,
+
+  // 호출을 집계만 하고 주기마다 메서드별 요약 한 줄 출력 (웹 요청 밖에서도 동작)
+  SUMMARY
+}
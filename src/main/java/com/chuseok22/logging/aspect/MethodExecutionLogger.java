@@ -0,0 +1,553 @@
+package com.chuseok22.logging.aspect;
+
+import com.chuseok22.logging.context.CallNode;
+import com.chuseok22.logging.context.CallTreeContext;
+import com.chuseok22.logging.properties.HttpLoggingProperties;
+import com.chuseok22.logging.telemetry.MethodOverhead;
+import com.chuseok22.logging.telemetry.OverheadRecorder;
+import com.chuseok22.logging.telemetry.OverheadStage;
+import com.chuseok22.logging.util.HeaderLoggingPlan;
+import com.chuseok22.logging.util.KeyValueFormatter;
+import com.chuseok22.logging.util.LoggingUtil;
+import com.chuseok22.logging.util.PayloadDeduplicator;
+import com.chuseok22.logging.util.PrettyJson;
+import com.chuseok22.logging.watchdog.InFlightCall;
+import com.chuseok22.logging.watchdog.SlowCallWatchdog;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * @LogMonitoring 호출 한 건의 로깅 흐름 (요청/인자 렌더링 → 실행 → 결과/오류 렌더링 → log.info)
+ * <p>
+ * {@link MethodExecutionLoggingAspect}는 프록시 경로에서 {@link #execute}를 사용하고, logging-processor가 빌드 시 생성하는
+ * {@code <Bean>$Logged} 래퍼는 {@link #open} / {@link Call}로 같은 렌더링 코드를 조인포인트·람다 없이 호출한다.
+ * 로거 이름은 기존 설정과의 호환을 위해 MethodExecutionLoggingAspect를 유지한다.
+ */
+@Slf4j(topic = "com.chuseok22.logging.aspect.MethodExecutionLoggingAspect")
+public class MethodExecutionLogger {
+
+  /**
+   * 실제 대상 메서드 호출 (프록시 경로: joinPoint::proceed)
+   */
+  @FunctionalInterface
+  public interface Invocation {
+
+    Object proceed() throws Throwable;
+  }
+
+  private final HttpLoggingProperties properties;
+  private final HeaderLoggingPlan headerPlan;
+  private final PayloadDeduplicator deduplicator; // nullable (opt-in)
+  private final SlowCallWatchdog watchdog; // nullable (opt-in)
+  private final OverheadRecorder overheadRecorder; // nullable (opt-in)
+
+  private static final String HEADER_LINE = "==========================[메서드 로깅 시작]==========================";
+  private static final String FOOTER_LINE = "==================================================================";
+
+  public MethodExecutionLogger(HttpLoggingProperties properties) {
+    this(properties, null, null);
+  }
+
+  public MethodExecutionLogger(HttpLoggingProperties properties,
+    SlowCallWatchdog watchdog,
+    OverheadRecorder overheadRecorder) {
+    this.properties = properties;
+    this.watchdog = watchdog;
+    this.overheadRecorder = overheadRecorder;
+    this.headerPlan = new HeaderLoggingPlan(
+      properties.getIncludeHeaders(),
+      properties.getExcludeHeaders(),
+      properties.getSensitiveKeys(),
+      properties.getHeaderValueMaxLengths(),
+      properties.getMaxHeaderValueLength()
+    );
+    this.deduplicator = properties.isDedupPayloads()
+      ? new PayloadDeduplicator(properties.getDedupWindowSize(), properties.getDedupMinLength())
+      : null;
+  }
+
+  public HttpLoggingProperties getProperties() {
+    return properties;
+  }
+
+  /**
+   * 프록시 경로: 이미 만들어진 인자 배열과 호출을 받아 {@link #open} → {@link Call#start} → 실행 → 결과 기록을 한 번에 처리
+   *
+   * @param metadata         메서드별 상수 메타데이터
+   * @param logParameters    {@link com.chuseok22.logging.annotation.LogMonitoring#logParameters()}
+   * @param logResult        {@link com.chuseok22.logging.annotation.LogMonitoring#logResult()}
+   * @param logExecutionTime {@link com.chuseok22.logging.annotation.LogMonitoring#logExecutionTime()}
+   * @param args             대상 메서드 인자
+   * @param invocation       대상 메서드 호출
+   */
+  public Object execute(MethodMetadata metadata,
+    boolean logParameters,
+    boolean logResult,
+    boolean logExecutionTime,
+    Object[] args,
+    Invocation invocation) throws Throwable {
+    Call call = open(metadata, logParameters, logResult, logExecutionTime);
+    if (call == null) {
+      return invocation.proceed();
+    }
+    call.start(args);
+    Object result;
+    try {
+      result = invocation.proceed();
+    } catch (Throwable ex) {
+      call.failed(ex);
+      throw ex;
+    }
+    call.succeeded(result);
+    return result;
+  }
+
+  /**
+   * 호출 한 건의 로깅 준비 (로깅이 꺼져 있으면 null → 호출자는 대상 메서드를 바로 호출)
+   * <p>
+   * 생성된 래퍼(logging-processor)는 {@link Call#needsArguments()}가 true일 때만 인자 배열을 만들고,
+   * 대상 메서드를 람다 없이 직접 호출한 뒤 {@link Call#succeeded(Object)} / {@link Call#failed(Throwable)}로 결과를 넘긴다.
+   */
+  public Call open(MethodMetadata metadata, boolean logParameters, boolean logResult, boolean logExecutionTime) {
+    if (!properties.isEnabled()) {
+      return null;
+    }
+    return new Call(metadata, logParameters, logResult, logExecutionTime);
+  }
+
+  /**
+   * 로깅 중인 호출 한 건 (같은 스레드에서 start → succeeded/failed 순서로 한 번만 사용)
+   */
+  public final class Call {
+
+    private final MethodMetadata metadata;
+    private final boolean logParameters;
+    private final boolean logResult;
+    private final boolean logExecutionTime;
+    private final String qualifiedName;
+    // 중첩 호출이면 바깥 호출의 호출 트리 (이 경우 별도 로그 없이 노드만 기록)
+    private final CallTreeContext parentTree;
+    private final MethodOverhead overhead;
+    private final HttpServletRequest request;
+    private final HttpServletResponse response;
+
+    private long stageStart;
+    private CallNode nestedNode;
+    private long start;
+    private StringBuilder b;
+    private CallTreeContext callTree;
+    private InFlightCall inFlight;
+
+    private Call(MethodMetadata metadata, boolean logParameters, boolean logResult, boolean logExecutionTime) {
+      this.metadata = metadata;
+      this.logParameters = logParameters;
+      this.logResult = logResult;
+      this.logExecutionTime = logExecutionTime;
+      this.qualifiedName = metadata.getQualifiedName();
+      this.parentTree = properties.isAggregateNestedCalls() ? CallTreeContext.current() : null;
+      if (parentTree != null) {
+        this.overhead = null;
+        this.request = null;
+        this.response = null;
+        return;
+      }
+      this.overhead = overheadRecorder != null ? overheadRecorder.forMethod(qualifiedName) : null;
+      this.stageStart = overhead != null ? System.nanoTime() : 0L;
+      ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+      this.request = attributes != null ? attributes.getRequest() : null;
+      this.response = attributes != null ? attributes.getResponse() : null;
+    }
+
+    /**
+     * 인자 배열이 실제로 쓰이는지 (인자 출력 또는 @RequestBody JSON 바디 출력)
+     */
+    public boolean needsArguments() {
+      if (parentTree != null) {
+        return false;
+      }
+      if (logParameters) {
+        return true;
+      }
+      return request != null
+        && properties.isLogRequestBody()
+        && metadata.hasRequestBody()
+        && LoggingUtil.isJson(request.getContentType());
+    }
+
+    /**
+     * 요청/인자 섹션을 렌더링하고 호출 트리/워치독에 등록
+     *
+     * @param args 대상 메서드 인자 ({@link #needsArguments()}가 false면 null 가능)
+     */
+    public void start(Object[] args) {
+      if (parentTree != null) {
+        nestedNode = parentTree.enter(qualifiedName);
+        return;
+      }
+      long t = stageStart;
+
+      // CorrelationId (MDC + 응답헤더)
+      String requestId = MDC.get(properties.getMdcKey());
+      if (requestId == null || requestId.isBlank()) {
+        requestId = UUID.randomUUID().toString().replace("-", "");
+        MDC.put(properties.getMdcKey(), requestId);
+      }
+      if (response != null) {
+        response.setHeader(properties.getCorrelationHeaderName(), requestId);
+      }
+      if (request != null) {
+        request.setAttribute("RequestID", requestId);
+        request.setAttribute("requestId", requestId);
+      }
+
+      start = System.currentTimeMillis();
+      b = new StringBuilder();
+      b.append("\n\n").append(HEADER_LINE).append("\n\n");
+
+      // =============== HTTP REQUEST ===============
+      if (request != null) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        String queryString = request.getQueryString();
+        String contentType = request.getContentType();
+        Charset cs = resolve(request.getCharacterEncoding());
+
+        b.append("[HTTP REQUEST] [RequestId: ").append(requestId).append("]\n");
+        b.append("-> ").append(method).append(" ").append(uri).append("\n");
+        t = stage(overhead, OverheadStage.REQUEST_SNAPSHOT, t);
+
+        if (properties.isLogRequestHeaders()) {
+          b.append("  Headers:\n");
+          headerPlan.appendRequestHeaders(b, request, 2, properties.isMaskSensitive(), properties.getMaskReplacement());
+          t = stage(overhead, OverheadStage.HEADERS, t);
+        }
+
+        b.append("  Query:\n");
+        KeyValueFormatter.appendQueryMasked(
+          b, queryString, cs, 2, properties.getMaxQueryParams(),
+          properties.isMaskSensitive(), properties.getSensitiveKeys(), properties.getMaskReplacement()
+        );
+        t = stage(overhead, OverheadStage.QUERY, t);
+
+        // @RequestBody 기반 바디 출력
+        if (properties.isLogRequestBody()) {
+          if (LoggingUtil.isJson(contentType)) {
+            List<Object> bodies = extractRequestBodyArgs(metadata, args);
+            if (!bodies.isEmpty()) {
+              Object only = bodies.size() == 1 ? bodies.get(0) : bodies;
+              String pretty = PrettyJson.toJsonOrToStringMasked(
+                only,
+                properties.isMaskSensitive(),
+                properties.getSensitiveKeys(),
+                properties.getMaskReplacement()
+              );
+              recordPayload(overhead, OverheadStage.REQUEST_BODY, pretty.length(), only);
+              pretty = truncateAndDedup(pretty);
+              b.append("  Body:\n  ").append(pretty.replace("\n", "\n  ")).append("\n");
+            } else {
+              Map<String, List<String>> form = KeyValueFormatter.fromParamMap(request.getParameterMap());
+              b.append("  Body:\n").append(KeyValueFormatter.formatBlockMasked(
+                form, 2, properties.isMaskSensitive(), properties.getSensitiveKeys(), properties.getMaskReplacement()
+              ));
+            }
+          } else if (LoggingUtil.isFormUrlEncoded(contentType)) {
+            Map<String, List<String>> form = KeyValueFormatter.fromParamMap(request.getParameterMap());
+            b.append("  Form:\n").append(KeyValueFormatter.formatBlockMasked(
+              form, 2, properties.isMaskSensitive(), properties.getSensitiveKeys(), properties.getMaskReplacement()
+            ));
+            b.append("  Body: (suppressed, see Form)\n");
+          } else if (LoggingUtil.isMultipart(contentType)) {
+            b.append("  Body: [multipart] (files/parts omitted)\n");
+          } else {
+            Map<String, List<String>> form = KeyValueFormatter.fromParamMap(request.getParameterMap());
+            b.append("  Body:\n").append(KeyValueFormatter.formatBlockMasked(
+              form, 2, properties.isMaskSensitive(), properties.getSensitiveKeys(), properties.getMaskReplacement()
+            ));
+          }
+          t = stage(overhead, OverheadStage.REQUEST_BODY, t);
+        }
+        b.append("\n");
+      } else {
+        t = stage(overhead, OverheadStage.REQUEST_SNAPSHOT, t);
+      }
+
+      // =============== METHOD ARGS ===============
+      if (logParameters) {
+        String argsJson = PrettyJson.toJsonOrToStringMasked(
+          sanitizeArgs(args),
+          properties.isMaskSensitive(),
+          properties.getSensitiveKeys(),
+          properties.getMaskReplacement()
+        );
+        recordPayload(overhead, OverheadStage.ARGS, argsJson.length(), args);
+        argsJson = deduplicator != null ? deduplicator.apply(argsJson, argsJson) : argsJson;
+        b.append("[METHOD] ").append(qualifiedName).append(" Args:\n  ")
+          .append(argsJson.replace("\n", "\n  "))
+          .append("\n\n");
+        stage(overhead, OverheadStage.ARGS, t);
+      }
+
+      callTree = properties.isAggregateNestedCalls()
+        ? CallTreeContext.begin(qualifiedName)
+        : null;
+      inFlight = watchdog != null ? watchdog.register(qualifiedName) : null;
+    }
+
+    public void succeeded(Object result) {
+      finish(result, null);
+    }
+
+    public void failed(Throwable thrown) {
+      finish(null, thrown);
+    }
+
+    private void finish(Object result, Throwable thrown) {
+      if (parentTree != null) {
+        parentTree.exit(nestedNode, thrown);
+        return;
+      }
+      long took = System.currentTimeMillis() - start;
+      InFlightCall.Snapshot samples = inFlight != null ? watchdog.unregister(inFlight) : null;
+      // 결과 렌더링이 실패해도 ThreadLocal이 풀 스레드에 남지 않도록 먼저 정리
+      if (callTree != null) {
+        callTree.end(thrown);
+      }
+      long rt = overhead != null ? System.nanoTime() : 0L;
+
+      // =============== RESPONSE / RESULT ===============
+      if (thrown == null) {
+        if (logResult) {
+          Object printable = unwrapResponse(result);
+          String pretty = PrettyJson.toJsonOrToStringMasked(
+            printable,
+            properties.isMaskSensitive(),
+            properties.getSensitiveKeys(),
+            properties.getMaskReplacement()
+          );
+          recordPayload(overhead, OverheadStage.RESULT, pretty.length(), result);
+          pretty = truncateAndDedup(pretty);
+          b.append("<- ").append(qualifiedName)
+            .append(" Result (").append(took).append(" ms):\n  ")
+            .append(pretty.replace("\n", "\n  "))
+            .append("\n");
+        } else if (logExecutionTime) {
+          b.append("<- ").append(qualifiedName)
+            .append(" (").append(took).append(" ms)\n");
+        }
+      } else {
+        // === 간단 에러 출력: Exception / Status / (가능하면) Body ===
+        Integer status = resolveStatus(thrown);
+        Object errorBody = extractErrorBody(thrown); // 베스트에포트
+
+        b.append("<- ").append(qualifiedName)
+          .append(" ERROR (").append(took).append(" ms):\n")
+          .append("  Exception: ").append(thrown.getClass().getName()).append("\n");
+
+        if (status != null) {
+          b.append("  Status: ").append(status).append("\n");
+        }
+
+        if (errorBody != null) {
+          String pretty = PrettyJson.toJsonOrToStringMasked(
+            errorBody,
+            properties.isMaskSensitive(),
+            properties.getSensitiveKeys(),
+            properties.getMaskReplacement()
+          );
+          pretty = truncateAndDedup(pretty);
+          b.append("  Body:\n  ").append(pretty.replace("\n", "\n  ")).append("\n");
+        } else {
+          b.append("  Body: (omitted or handled by global exception handler)\n");
+        }
+      }
+
+      rt = stage(overhead, OverheadStage.RESULT, rt);
+
+      // =============== SLOW CALL SAMPLES ===============
+      if (samples != null) {
+        b.append("\n");
+        watchdog.render(b, samples);
+        rt = stage(overhead, OverheadStage.SLOW_CALL_SAMPLES, rt);
+      }
+
+      // =============== CALL TREE ===============
+      if (callTree != null && callTree.getRoot().hasChildren()) {
+        b.append("\n[CALL TREE]\n");
+        callTree.render(b);
+        rt = stage(overhead, OverheadStage.CALL_TREE, rt);
+      }
+
+      b.append("\n").append(FOOTER_LINE).append("\n");
+      log.info(b.toString());
+      stage(overhead, OverheadStage.LOG_WRITE, rt);
+    }
+  }
+
+  // ===== helpers =====
+
+  // 단계 소요 시간 기록 후 다음 단계 시작 시각 반환 (텔레메트리 비활성 시 아무것도 하지 않음)
+  private long stage(MethodOverhead overhead, OverheadStage stage, long startNanos) {
+    if (overhead == null) {
+      return 0L;
+    }
+    long now = System.nanoTime();
+    overhead.record(stage, now - startNanos);
+    return now;
+  }
+
+  // 길이 제한 적용 후, 중복 제거가 켜져 있으면 이미 출력한 페이로드를 해시 참조로 치환
+  private String truncateAndDedup(String pretty) {
+    String truncated = LoggingUtil.truncate(pretty, properties.getMaxBodyLength());
+    return deduplicator != null ? deduplicator.apply(pretty, truncated) : truncated;
+  }
+
+  private void recordPayload(MethodOverhead overhead, OverheadStage stage, int chars, Object payload) {
+    if (overhead != null && overhead.isLargerPayload(stage, chars)) {
+      overhead.updateLargestPayload(stage, chars, payloadType(payload));
+    }
+  }
+
+  private String payloadType(Object payload) {
+    if (payload == null) {
+      return "null";
+    }
+    if (payload instanceof ResponseEntity<?> re && re.getBody() != null) {
+      return "ResponseEntity<" + re.getBody().getClass().getName() + ">";
+    }
+    if (payload instanceof Object[] args) {
+      StringBuilder b = new StringBuilder("(");
+      for (int i = 0; i < args.length; i++) {
+        b.append(i > 0 ? ", " : "").append(args[i] == null ? "null" : args[i].getClass().getName());
+      }
+      return b.append(")").toString();
+    }
+    return payload.getClass().getName();
+  }
+
+  private Charset resolve(String enc) {
+    if (enc == null || enc.isBlank()) {
+      return StandardCharsets.UTF_8;
+    }
+    try {
+      return Charset.forName(enc);
+    } catch (Exception e) {
+      return StandardCharsets.UTF_8;
+    }
+  }
+
+  private List<Object> extractRequestBodyArgs(MethodMetadata metadata, Object[] args) {
+    if (!metadata.hasRequestBody()) {
+      return List.of();
+    }
+    int[] indices = metadata.getRequestBodyIndices();
+    List<Object> bodies = new ArrayList<>(indices.length);
+    for (int i : indices) {
+      bodies.add(args[i]);
+    }
+    return bodies;
+  }
+
+  private Object unwrapResponse(Object result) {
+    if (result instanceof ResponseEntity<?> re) {
+      Map<String, Object> printable = new LinkedHashMap<>();
+      printable.put("_type", "ResponseEntity");
+      printable.put("status", re.getStatusCode().value());
+
+      if (properties.isLogResponseHeaders()) {
+        printable.put("headers", safeHeaders(re.getHeaders()));
+      }
+      printable.put("body", properties.isLogResponseBody() ? re.getBody() : "[omitted]");
+      return printable;
+    }
+    if (!properties.isLogResponseBody()) {
+      return "[omitted]";
+    }
+    return result;
+  }
+
+  // 응답 헤더는 include/exclude-headers(요청 헤더 전용)를 적용하지 않고 마스킹만 적용
+  private Map<String, List<String>> safeHeaders(HttpHeaders headers) {
+    Map<String, List<String>> h = new LinkedHashMap<>();
+    headers.forEach((k, v) -> {
+      if (properties.isMaskSensitive() && headerPlan.isSensitive(k)) {
+        h.put(k, List.of(properties.getMaskReplacement()));
+      } else {
+        h.put(k, v);
+      }
+    });
+    return h;
+  }
+
+  private Object sanitizeArgs(Object[] args) {
+    if (args == null) {
+      return null;
+    }
+    return Arrays.asList(args);
+  }
+
+  private Integer resolveStatus(Throwable t) {
+    if (t instanceof ResponseStatusException rse) {
+      try {
+        return rse.getStatusCode().value();
+      } catch (Throwable ignore) {
+      }
+    }
+    ResponseStatus rs = t.getClass().getAnnotation(ResponseStatus.class);
+    if (rs != null) {
+      try {
+        HttpStatus code = rs.code() != HttpStatus.INTERNAL_SERVER_ERROR ? rs.code() : rs.value();
+        return code.value();
+      } catch (Throwable ignore) {
+      }
+    }
+    return null;
+  }
+
+  // 예외에서 “응답 바디로 쓸 만한 것”을 최대한 추출 (없으면 null)
+  private Object extractErrorBody(Throwable t) {
+    // 1) ResponseStatusException: reason 사용
+    if (t instanceof ResponseStatusException rse) {
+      String reason = rse.getReason();
+      if (reason != null) {
+        return Map.of("reason", reason);
+      }
+    }
+
+    // 2) 흔한 커스텀 예외 패턴: getBody(), getPayload(), getErrorResponse(), toResponseEntity()
+    List<String> candidates = List.of("getBody", "getPayload", "getErrorResponse", "getResponse", "toResponseEntity");
+    for (String name : candidates) {
+      try {
+        Method m = t.getClass().getMethod(name);
+        Object o = m.invoke(t);
+        if (o instanceof ResponseEntity<?> re) {
+          return re.getBody();
+        }
+        if (o != null) {
+          return o; // 맵/DTO 등
+        }
+      } catch (Throwable ignore) { /* 메서드 없음 or 실패 */ }
+    }
+
+    // 3) 마지막으로 메시지만 노출
+    String msg = t.getMessage();
+    return (msg != null && !msg.isBlank()) ? Map.of("message", msg) : null;
+  }
+}
\ No newline at end of file
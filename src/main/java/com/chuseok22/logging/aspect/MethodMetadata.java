@@ -0,0 +1,76 @@
+package com.chuseok22.logging.aspect;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * 메서드별로 한 번만 계산해 두는 로깅 메타데이터
+ * <p>
+ * 클래스/메서드 이름, "Class.method" 표기, @RequestBody 파라미터 인덱스를 캐싱해
+ * 호출마다 리플렉션(getParameters, getAnnotations)과 문자열 결합을 반복하지 않는다.
+ */
+@Getter
+public class MethodMetadata {
+
+  private static final Map<Method, MethodMetadata> CACHE = new ConcurrentHashMap<>();
+  private static final int[] NO_INDICES = new int[0];
+
+  private final String className;
+  private final String methodName;
+  private final String qualifiedName;
+  private final int[] requestBodyIndices;
+
+  private MethodMetadata(Method method, Class<?> declaringType) {
+    this(declaringType.getSimpleName(), method.getName(), resolveRequestBodyIndices(method));
+  }
+
+  private MethodMetadata(String className, String methodName, int[] requestBodyIndices) {
+    this.className = className;
+    this.methodName = methodName;
+    this.qualifiedName = className + "." + methodName;
+    this.requestBodyIndices = requestBodyIndices;
+  }
+
+  /**
+   * 프록시 없이 직접 호출하는 래퍼용: 리플렉션 없이 상수로 메타데이터 생성 (static final 필드에 보관해 재사용)
+   */
+  public static MethodMetadata of(Class<?> declaringType, String methodName, int... requestBodyIndices) {
+    int[] indices = requestBodyIndices == null || requestBodyIndices.length == 0
+      ? NO_INDICES
+      : requestBodyIndices.clone();
+    return new MethodMetadata(declaringType.getSimpleName(), methodName, indices);
+  }
+
+  public static MethodMetadata of(Method method, Class<?> declaringType) {
+    MethodMetadata cached = CACHE.get(method);
+    if (cached != null) {
+      return cached;
+    }
+    return CACHE.computeIfAbsent(method, m -> new MethodMetadata(m, declaringType));
+  }
+
+  public boolean hasRequestBody() {
+    return requestBodyIndices.length > 0;
+  }
+
+  private static int[] resolveRequestBodyIndices(Method method) {
+    Parameter[] params = method.getParameters();
+    int[] indices = new int[params.length];
+    int count = 0;
+    for (int i = 0; i < params.length; i++) {
+      for (Annotation an : params[i].getAnnotations()) {
+        if (an.annotationType() == RequestBody.class) {
+          indices[count++] = i;
+          break;
+        }
+      }
+    }
+    return count == 0 ? NO_INDICES : Arrays.copyOf(indices, count);
+  }
+}
@@ -0,0 +1,58 @@
+package com.chuseok22.logging.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 호출 트리의 한 노드 (하나의 @LogMonitoring 메서드 호출)
+ */
+@Getter
+public class CallNode {
+
+  private final String name;
+  private final CallNode parent;
+  private final long startNanos;
+  private List<CallNode> children;
+
+  private long totalNanos;
+  private String outcome;
+
+  CallNode(String name, CallNode parent) {
+    this.name = name;
+    this.parent = parent;
+    this.startNanos = System.nanoTime();
+  }
+
+  void addChild(CallNode child) {
+    if (children == null) {
+      children = new ArrayList<>(4);
+    }
+    children.add(child);
+  }
+
+  void finish(Throwable thrown) {
+    this.totalNanos = System.nanoTime() - startNanos;
+    this.outcome = thrown == null ? "OK" : "ERROR(" + thrown.getClass().getSimpleName() + ")";
+  }
+
+  public List<CallNode> getChildren() {
+    return children == null ? Collections.emptyList() : children;
+  }
+
+  public boolean hasChildren() {
+    return children != null && !children.isEmpty();
+  }
+
+  // 자식 호출 시간을 제외한 자체 실행 시간
+  public long getSelfNanos() {
+    long self = totalNanos;
+    if (children != null) {
+      for (CallNode c : children) {
+        self -= c.totalNanos;
+      }
+    }
+    return Math.max(0L, self);
+  }
+}
@@ -0,0 +1,71 @@
+package com.chuseok22.logging.context;
+
+/**
+ * 요청(스레드) 단위 @LogMonitoring 호출 트리
+ * <p>
+ * 가장 바깥 호출이 {@link #begin(String)}으로 컨텍스트를 열고, 중첩 호출은 {@link #enter(String)} / {@link #exit(CallNode, Throwable)}로
+ * 노드만 기록한다. 가장 바깥 호출이 끝나면 {@link #end()}로 정리하고 트리를 한 번에 출력한다.
+ */
+public class CallTreeContext {
+
+  private static final ThreadLocal<CallTreeContext> CURRENT = new ThreadLocal<>();
+
+  private final CallNode root;
+  private CallNode current;
+
+  private CallTreeContext(String rootName) {
+    this.root = new CallNode(rootName, null);
+    this.current = root;
+  }
+
+  public static CallTreeContext current() {
+    return CURRENT.get();
+  }
+
+  public static CallTreeContext begin(String rootName) {
+    CallTreeContext ctx = new CallTreeContext(rootName);
+    CURRENT.set(ctx);
+    return ctx;
+  }
+
+  public CallNode getRoot() {
+    return root;
+  }
+
+  public CallNode enter(String name) {
+    CallNode node = new CallNode(name, current);
+    current.addChild(node);
+    current = node;
+    return node;
+  }
+
+  public void exit(CallNode node, Throwable thrown) {
+    node.finish(thrown);
+    current = node.getParent() != null ? node.getParent() : root;
+  }
+
+  public void end(Throwable thrown) {
+    root.finish(thrown);
+    CURRENT.remove();
+  }
+
+  // 트리를 들여쓰기 형태로 출력
+  public void render(StringBuilder b) {
+    render(b, root, 1);
+  }
+
+  private void render(StringBuilder b, CallNode node, int depth) {
+    b.append("  ".repeat(depth)).append(node.getName())
+      .append(" total=").append(formatMillis(node.getTotalNanos())).append(" ms")
+      .append(" self=").append(formatMillis(node.getSelfNanos())).append(" ms")
+      .append(" ").append(node.getOutcome()).append("\n");
+    for (CallNode child : node.getChildren()) {
+      render(b, child, depth + 1);
+    }
+  }
+
+  private String formatMillis(long nanos) {
+    long micros = nanos / 1_000L;
+    return (micros / 1_000L) + "." + String.format("%03d", micros % 1_000L);
+  }
+}
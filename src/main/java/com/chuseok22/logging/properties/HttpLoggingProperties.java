@@ -1,7 +1,9 @@
 package com.chuseok22.logging.properties;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -16,6 +18,14 @@ public class HttpLoggingProperties {
 
   // 요청 헤더 출력 여부
   private boolean logRequestHeaders = true;
+  // 출력할 요청 헤더 allowlist (대소문자 무시, 비어있으면 전체 출력, 응답 헤더에는 적용 안 됨)
+  private List<String> includeHeaders = new ArrayList<String>();
+  // 출력에서 제외할 요청 헤더 denylist (대소문자 무시, 응답 헤더에는 적용 안 됨)
+  private List<String> excludeHeaders = new ArrayList<String>();
+  // 헤더 값 최대 출력 길이 (0 이하면 제한 없음)
+  private int maxHeaderValueLength = 0;
+  // 헤더별 값 최대 출력 길이 (maxHeaderValueLength 보다 우선)
+  private Map<String, Integer> headerValueMaxLengths = new LinkedHashMap<String, Integer>();
   // 요청 바디 출력 여부
   private boolean logRequestBody = true;
 
@@ -25,6 +35,35 @@ public class HttpLoggingProperties {
   private boolean logResponseBody = true;
 
   private int maxBodyLength = 2000;
+  // 출력할 최대 쿼리 파라미터 수 (0 이하면 제한 없음)
+  private int maxQueryParams = 50;
+
+  // 같은 (마스킹된) 페이로드는 최초 1회만 전문 출력하고 이후 해시로 참조
+  private boolean dedupPayloads = false;
+  // 중복 판단에 사용할 페이로드 해시 테이블 크기 (2의 거듭제곱으로 올림)
+  private int dedupWindowSize = 1024;
+  // 이 길이 이상인 페이로드만 중복 제거 대상
+  private int dedupMinLength = 512;
+
+  // 중첩된 @LogMonitoring 호출을 가장 바깥 호출의 로그 한 건(호출 트리)으로 묶을지 여부 (opt-in: 중첩 메서드의 인자/결과는 출력되지 않음)
+  private boolean aggregateNestedCalls = false;
+
+  // 느린 호출 워치독: 임계 시간을 넘긴 실행 중 호출의 스택 샘플을 로그에 첨부 (opt-in)
+  private boolean slowCallWatchdogEnabled = false;
+  // 샘플링을 시작할 실행 시간 임계값(ms)
+  private long slowCallThresholdMs = 1000;
+  // 스택 샘플링 간격(ms)
+  private long slowCallSampleIntervalMs = 100;
+  // 호출당 최대 샘플 수
+  private int slowCallMaxSamples = 50;
+  // 출력할 상위 프레임 수
+  private int slowCallTopFrames = 5;
+
+  // SUMMARY 모드 요약 출력 주기(초)
+  private long summaryIntervalSeconds = 60;
+
+  // 라이브러리 자체 오버헤드를 메서드/단계별로 측정 (메트릭 + /actuator/methodlogging)
+  private boolean selfTelemetryEnabled = false;
 
   private String correlationHeaderName = "X-Request-Id";
   private String mdcKey = "requestId";
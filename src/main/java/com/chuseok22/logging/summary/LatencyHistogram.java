@@ -0,0 +1,83 @@
+package com.chuseok22.logging.summary;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마이크로초 단위 로그-선형 지연 히스토그램
+ * <p>
+ * 2의 거듭제곱 구간마다 8개 하위 버킷(상대 오차 약 12.5%)을 두고, 버킷마다 {@link LongAdder}로 기록해
+ * 기록 경로에 락과 할당이 없다.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BITS = 3;
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+  private static final int BUCKETS = (40 - SUB_BITS + 1) * SUB_COUNT;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+  private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0L);
+
+  public LatencyHistogram() {
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  public void record(long nanos) {
+    long micros = Math.max(0L, nanos / 1_000L);
+    buckets[index(micros)].increment();
+    maxMicros.accumulate(micros);
+  }
+
+  /**
+   * 현재 구간 값을 꺼내고 초기화
+   */
+  public Snapshot snapshotAndReset() {
+    long[] counts = new long[BUCKETS];
+    long total = 0L;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets[i].sumThenReset();
+      total += counts[i];
+    }
+    return new Snapshot(counts, total, maxMicros.getThenReset());
+  }
+
+  static int index(long micros) {
+    if (micros < SUB_COUNT) {
+      return (int) micros;
+    }
+    int exp = 63 - Long.numberOfLeadingZeros(micros);
+    int sub = (int) ((micros >>> (exp - SUB_BITS)) & (SUB_COUNT - 1));
+    return Math.min((exp - SUB_BITS + 1) * SUB_COUNT + sub, BUCKETS - 1);
+  }
+
+  // 버킷이 담는 값의 상한(마이크로초)
+  static long upperBound(int index) {
+    if (index < SUB_COUNT) {
+      return index;
+    }
+    int exp = index / SUB_COUNT + SUB_BITS - 1;
+    long sub = index % SUB_COUNT;
+    long lower = (SUB_COUNT + sub) << (exp - SUB_BITS);
+    return lower + (1L << (exp - SUB_BITS)) - 1;
+  }
+
+  public record Snapshot(long[] counts, long total, long maxMicros) {
+
+    public long percentileMicros(double p) {
+      if (total == 0) {
+        return 0L;
+      }
+      long target = Math.max(1L, (long) Math.ceil(p * total));
+      long cumulative = 0L;
+      for (int i = 0; i < counts.length; i++) {
+        cumulative += counts[i];
+        if (cumulative >= target) {
+          return Math.min(upperBound(i), maxMicros);
+        }
+      }
+      return maxMicros;
+    }
+  }
+}
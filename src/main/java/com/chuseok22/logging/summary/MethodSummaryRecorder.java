@@ -0,0 +1,136 @@
+package com.chuseok22.logging.summary;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SUMMARY 모드 메서드의 구간 집계기
+ * <p>
+ * 호출은 메서드별 스트라이프 카운터({@link LongAdder})와 {@link LatencyHistogram}에 기록되고,
+ * 단일 스케줄러 스레드가 주기마다 메서드별 요약 한 줄을 출력한 뒤 구간을 초기화한다.
+ * 스케줄러 스레드는 첫 기록 시점에 시작하므로 SUMMARY 메서드가 없는 애플리케이션에는 스레드가 생기지 않는다.
+ */
+@Slf4j
+public class MethodSummaryRecorder implements AutoCloseable {
+
+  private final Map<Method, MethodStats> stats = new ConcurrentHashMap<>();
+  private final long intervalSeconds;
+  private volatile ScheduledExecutorService scheduler; // 첫 기록 시 생성
+  private boolean closed; // guarded by this
+
+  public MethodSummaryRecorder(long intervalSeconds) {
+    this.intervalSeconds = Math.max(1L, intervalSeconds);
+  }
+
+  public void record(Method method, long nanos, boolean error) {
+    if (scheduler == null) {
+      startScheduler();
+    }
+    MethodStats s = stats.get(method);
+    if (s == null) {
+      // 출력 이름은 메서드별 첫 기록에서 한 번만 만든다
+      s = stats.computeIfAbsent(method, m -> new MethodStats(label(m)));
+    }
+    s.count.increment();
+    if (error) {
+      s.errors.increment();
+    }
+    s.latency.record(nanos);
+  }
+
+  // SimpleClass.method, 오버로드된 메서드는 파라미터 타입까지 붙여 구분 (SimpleClass.method(String, int))
+  static String label(Method method) {
+    String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    if (!isOverloaded(method)) {
+      return name;
+    }
+    StringJoiner parameters = new StringJoiner(", ", "(", ")");
+    for (Class<?> type : method.getParameterTypes()) {
+      parameters.add(type.getSimpleName());
+    }
+    return name + parameters;
+  }
+
+  private static boolean isOverloaded(Method method) {
+    for (Method other : method.getDeclaringClass().getDeclaredMethods()) {
+      // 제네릭 오버라이드로 생기는 브리지 메서드는 오버로드로 보지 않음
+      if (other.getName().equals(method.getName()) && !other.equals(method) && !other.isBridge() && !other.isSynthetic()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private synchronized void startScheduler() {
+    if (scheduler != null || closed) {
+      return;
+    }
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "chuseok22-method-summary");
+      t.setDaemon(true);
+      return t;
+    });
+    executor.scheduleAtFixedRate(this::flush, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    scheduler = executor;
+  }
+
+  boolean isStarted() {
+    return scheduler != null;
+  }
+
+  void flush() {
+    try {
+      for (MethodStats s : stats.values()) {
+        long count = s.count.sumThenReset();
+        long errors = s.errors.sumThenReset();
+        LatencyHistogram.Snapshot latency = s.latency.snapshotAndReset();
+        if (count == 0) {
+          continue;
+        }
+        log.info("[METHOD SUMMARY] {} count={} errors={} p50={} ms p95={} ms p99={} ms max={} ms ({}s)",
+          s.name, count, errors,
+          formatMillis(latency.percentileMicros(0.50)),
+          formatMillis(latency.percentileMicros(0.95)),
+          formatMillis(latency.percentileMicros(0.99)),
+          formatMillis(latency.maxMicros()),
+          intervalSeconds);
+      }
+    } catch (Throwable t) {
+      log.debug("method summary flush failed", t); // 스케줄러가 멈추지 않도록 예외를 삼킴
+    }
+  }
+
+  private String formatMillis(long micros) {
+    return (micros / 1_000L) + "." + String.format("%03d", micros % 1_000L);
+  }
+
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      if (scheduler != null) {
+        scheduler.shutdownNow();
+      }
+    }
+    flush(); // 종료 전 마지막 구간 출력
+  }
+
+  private static class MethodStats {
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private MethodStats(String name) {
+      this.name = name;
+    }
+  }
+}
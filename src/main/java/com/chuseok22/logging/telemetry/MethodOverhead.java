@@ -0,0 +1,86 @@
+package com.chuseok22.logging.telemetry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * @LogMonitoring 메서드 하나의 단계별 라이브러리 오버헤드 누적값
+ */
+public class MethodOverhead {
+
+  private static final OverheadStage[] STAGES = OverheadStage.values();
+
+  @Getter
+  private final String name;
+  private final LongAdder[] counts = new LongAdder[STAGES.length];
+  private final LongAdder[] totalNanos = new LongAdder[STAGES.length];
+  private final LongAccumulator[] maxNanos = new LongAccumulator[STAGES.length];
+
+  // 단계별 가장 큰 출력 페이로드 (길이, 타입): 쓰기는 락 안에서만, 길이는 락 없이도 읽을 수 있도록 원자 배열
+  private final AtomicLongArray largestPayloadChars = new AtomicLongArray(STAGES.length);
+  private final String[] largestPayloadTypes = new String[STAGES.length]; // guarded by this
+
+  MethodOverhead(String name) {
+    this.name = name;
+    for (int i = 0; i < STAGES.length; i++) {
+      counts[i] = new LongAdder();
+      totalNanos[i] = new LongAdder();
+      maxNanos[i] = new LongAccumulator(Math::max, 0L);
+    }
+  }
+
+  public void record(OverheadStage stage, long nanos) {
+    int i = stage.ordinal();
+    counts[i].increment();
+    totalNanos[i].add(nanos);
+    maxNanos[i].accumulate(nanos);
+  }
+
+  public long count(OverheadStage stage) {
+    return counts[stage.ordinal()].sum();
+  }
+
+  public long totalNanos(OverheadStage stage) {
+    return totalNanos[stage.ordinal()].sum();
+  }
+
+  public long maxNanos(OverheadStage stage) {
+    return maxNanos[stage.ordinal()].get();
+  }
+
+  public long totalNanos() {
+    long sum = 0L;
+    for (LongAdder t : totalNanos) {
+      sum += t.sum();
+    }
+    return sum;
+  }
+
+  // 갱신이 필요한 경우에만 타입 이름을 계산하도록 락 없이 길이만 먼저 비교 (최종 판단은 updateLargestPayload에서 락 안에서)
+  public boolean isLargerPayload(OverheadStage stage, long chars) {
+    return chars > largestPayloadChars.get(stage.ordinal());
+  }
+
+  public synchronized void updateLargestPayload(OverheadStage stage, long chars, String type) {
+    int i = stage.ordinal();
+    if (chars > largestPayloadChars.get(i)) {
+      largestPayloadChars.set(i, chars);
+      largestPayloadTypes[i] = type;
+    }
+  }
+
+  public synchronized Map<String, Object> largestPayloads() {
+    Map<String, Object> payloads = new LinkedHashMap<>();
+    for (OverheadStage stage : STAGES) {
+      int i = stage.ordinal();
+      if (largestPayloadTypes[i] != null) {
+        payloads.put(stage.getTagName(), Map.of("type", largestPayloadTypes[i], "chars", largestPayloadChars.get(i)));
+      }
+    }
+    return payloads;
+  }
+}
@@ -0,0 +1,50 @@
+package com.chuseok22.logging.telemetry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * /actuator/methodlogging : 라이브러리 자체 오버헤드가 큰 메서드 순으로 단계별 비용과 가장 큰 페이로드 타입을 보여준다
+ */
+@Endpoint(id = "methodlogging")
+@RequiredArgsConstructor
+public class OverheadEndpoint {
+
+  private final OverheadRecorder recorder;
+
+  @ReadOperation
+  public Map<String, Object> overhead() {
+    List<MethodOverhead> methods = new ArrayList<>(recorder.methods());
+    methods.sort(Comparator.comparingLong((MethodOverhead m) -> m.totalNanos()).reversed());
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    for (MethodOverhead m : methods) {
+      Map<String, Object> stages = new LinkedHashMap<>();
+      for (OverheadStage stage : OverheadStage.values()) {
+        long count = m.count(stage);
+        if (count == 0) {
+          continue;
+        }
+        long total = m.totalNanos(stage);
+        Map<String, Object> s = new LinkedHashMap<>();
+        s.put("count", count);
+        s.put("totalMs", total / 1_000_000.0);
+        s.put("avgMicros", total / 1_000.0 / count);
+        s.put("maxMicros", m.maxNanos(stage) / 1_000.0);
+        stages.put(stage.getTagName(), s);
+      }
+      Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("totalMs", m.totalNanos() / 1_000_000.0);
+      entry.put("stages", stages);
+      entry.put("largestPayloads", m.largestPayloads());
+      body.put(m.getName(), entry);
+    }
+    return body;
+  }
+}
@@ -0,0 +1,36 @@
+package com.chuseok22.logging.telemetry;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메서드/단계별 오버헤드를 Micrometer FunctionTimer로 노출
+ * <p>
+ * chuseok22.logging.overhead{method="MemberController.withdraw", stage="result"}
+ */
+@RequiredArgsConstructor
+public class OverheadMetricsBinder implements MeterBinder {
+
+  public static final String METRIC_NAME = "chuseok22.logging.overhead";
+
+  private final OverheadRecorder recorder;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    recorder.onNewMethod(method -> {
+      for (OverheadStage stage : OverheadStage.values()) {
+        FunctionTimer.builder(METRIC_NAME, method,
+            m -> m.count(stage),
+            m -> m.totalNanos(stage),
+            TimeUnit.NANOSECONDS)
+          .description("Time spent by method-logging itself, excluding the monitored method")
+          .tag("method", method.getName())
+          .tag("stage", stage.getTagName())
+          .register(registry);
+      }
+    });
+  }
+}
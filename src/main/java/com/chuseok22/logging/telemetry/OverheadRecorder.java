@@ -0,0 +1,50 @@
+package com.chuseok22.logging.telemetry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 메서드별 라이브러리 자체 오버헤드 수집기
+ * <p>
+ * 메트릭/엔드포인트 연동은 {@link #onNewMethod(Consumer)}로 새 메서드가 처음 기록될 때 통지받는다.
+ */
+public class OverheadRecorder {
+
+  private final Map<String, MethodOverhead> methods = new ConcurrentHashMap<>();
+  private final List<Consumer<MethodOverhead>> listeners = new CopyOnWriteArrayList<>();
+
+  public MethodOverhead forMethod(String name) {
+    MethodOverhead existing = methods.get(name);
+    if (existing != null) {
+      return existing;
+    }
+    MethodOverhead created = new MethodOverhead(name);
+    MethodOverhead prev = methods.putIfAbsent(name, created);
+    if (prev != null) {
+      return prev;
+    }
+    for (Consumer<MethodOverhead> l : listeners) {
+      l.accept(created);
+    }
+    return created;
+  }
+
+  /**
+   * 이미 기록된 메서드에도 즉시 호출된다
+   */
+  public void onNewMethod(Consumer<MethodOverhead> listener) {
+    listeners.add(listener);
+    for (MethodOverhead m : methods.values()) {
+      listener.accept(m);
+    }
+  }
+
+  public Collection<MethodOverhead> methods() {
+    return new ArrayList<>(methods.values());
+  }
+}
@@ -0,0 +1,24 @@
+package com.chuseok22.logging.telemetry;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 라이브러리 자체 처리 단계 (비즈니스 메서드 실행 시간 제외)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OverheadStage {
+
+  REQUEST_SNAPSHOT("request-snapshot"),   // CorrelationId, 요청 정보 수집
+  HEADERS("headers"),                     // 요청 헤더 출력
+  QUERY("query"),                         // 쿼리 파라미터 출력
+  REQUEST_BODY("request-body"),           // 요청 바디 직렬화 + 마스킹
+  ARGS("args"),                           // 메서드 인자 직렬화 + 마스킹
+  RESULT("result"),                       // 결과/오류 직렬화 + 마스킹
+  SLOW_CALL_SAMPLES("slow-call-samples"), // 느린 호출 샘플 렌더링 (샘플이 있을 때만)
+  CALL_TREE("call-tree"),                 // 중첩 호출 트리 렌더링 (하위 호출이 있을 때만)
+  LOG_WRITE("log-write");                 // 최종 문자열 생성 + log.info
+
+  private final String tagName;
+}
@@ -0,0 +1,154 @@
+package com.chuseok22.logging.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 시작 시점에 한 번 만들어 두는 헤더 출력 계획
+ * <p>
+ * allowlist(include)가 있으면 해당 헤더만 직접 조회하고, 없으면 전체 헤더 중 denylist(exclude)를 건너뛴다.
+ * 모든 이름 비교는 대소문자를 무시하며, 값은 중간 리스트 없이 바로 버퍼에 기록한다.
+ */
+public class HeaderLoggingPlan {
+
+  private static final String TRUNCATED = "...(생략됨)";
+
+  private final boolean allowlist;
+  private final List<String> includes;
+  private final Set<String> includeSet;
+  private final Set<String> excludeSet;
+  private final Set<String> sensitiveSet;
+  private final Map<String, Integer> valueMaxLengths;
+  private final int defaultValueMaxLength;
+
+  public HeaderLoggingPlan(List<String> includeHeaders,
+    List<String> excludeHeaders,
+    List<String> sensitiveKeys,
+    Map<String, Integer> headerValueMaxLengths,
+    int defaultValueMaxLength) {
+    this.excludeSet = caseInsensitiveSet(excludeHeaders);
+    this.sensitiveSet = caseInsensitiveSet(sensitiveKeys);
+    this.includeSet = caseInsensitiveSet(includeHeaders);
+    // 설정된 allowlist가 있으면 denylist로 모두 걸러져도 allowlist 모드 유지 (전체 출력으로 돌아가지 않음)
+    this.allowlist = !includeSet.isEmpty();
+    this.includeSet.removeAll(excludeSet);
+
+    List<String> ordered = new ArrayList<>();
+    if (includeHeaders != null) {
+      Set<String> seen = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+      for (String raw : includeHeaders) {
+        String name = raw != null ? raw.trim() : "";
+        if (!name.isEmpty() && includeSet.contains(name) && seen.add(name)) {
+          ordered.add(name);
+        }
+      }
+    }
+    this.includes = Collections.unmodifiableList(ordered);
+
+    this.valueMaxLengths = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    if (headerValueMaxLengths != null) {
+      headerValueMaxLengths.forEach((k, v) -> {
+        if (k != null && v != null) {
+          valueMaxLengths.put(k.trim(), v);
+        }
+      });
+    }
+    this.defaultValueMaxLength = defaultValueMaxLength;
+  }
+
+  public boolean isIncluded(String name) {
+    if (name == null) {
+      return false;
+    }
+    if (allowlist) {
+      return includeSet.contains(name);
+    }
+    return !excludeSet.contains(name);
+  }
+
+  public boolean isSensitive(String name) {
+    return name != null && sensitiveSet.contains(name);
+  }
+
+  public void appendRequestHeaders(StringBuilder b,
+    HttpServletRequest request,
+    int indentSize,
+    boolean maskSensitive,
+    String replacement) {
+    String indent = " ".repeat(Math.max(0, indentSize));
+    if (allowlist) {
+      // allowlist: 원하는 헤더만 직접 조회
+      for (String name : includes) {
+        Enumeration<String> values = request.getHeaders(name);
+        if (values != null && values.hasMoreElements()) {
+          appendHeader(b, indent, name, values, maskSensitive, replacement);
+        }
+      }
+      return;
+    }
+    Enumeration<String> names = request.getHeaderNames();
+    while (names != null && names.hasMoreElements()) {
+      String name = names.nextElement();
+      if (excludeSet.contains(name)) {
+        continue;
+      }
+      appendHeader(b, indent, name, request.getHeaders(name), maskSensitive, replacement);
+    }
+  }
+
+  private void appendHeader(StringBuilder b,
+    String indent,
+    String name,
+    Enumeration<String> values,
+    boolean maskSensitive,
+    String replacement) {
+    b.append(indent).append("- ").append(name).append(": ");
+    if (maskSensitive && sensitiveSet.contains(name)) {
+      b.append(replacement).append("\n");
+      return;
+    }
+    int cap = valueMaxLength(name);
+    int mark = b.length();
+    boolean first = true;
+    while (values != null && values.hasMoreElements()) {
+      if (!first) {
+        b.append(", ");
+      }
+      b.append(values.nextElement());
+      first = false;
+      if (cap > 0 && b.length() - mark > cap) {
+        b.setLength(mark + cap);
+        b.append(TRUNCATED);
+        break;
+      }
+    }
+    b.append("\n");
+  }
+
+  private int valueMaxLength(String name) {
+    if (valueMaxLengths.isEmpty()) {
+      return defaultValueMaxLength;
+    }
+    Integer cap = valueMaxLengths.get(name);
+    return cap != null ? cap : defaultValueMaxLength;
+  }
+
+  private static Set<String> caseInsensitiveSet(List<String> names) {
+    Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    if (names != null) {
+      for (String n : names) {
+        if (n != null && !n.isBlank()) {
+          set.add(n.trim());
+        }
+      }
+    }
+    return set;
+  }
+}
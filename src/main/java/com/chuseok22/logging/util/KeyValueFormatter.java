@@ -34,6 +34,71 @@ public class KeyValueFormatter {
     return map;
   }
 
+  /**
+   * 쿼리 문자열을 한 번만 훑으면서 바로 출력 버퍼에 기록
+   * <p>
+   * '%' 또는 '+'가 포함된 구간만 디코딩하고, 중간 Map/List를 만들지 않는다. 같은 키가 반복되면 각각 한 줄로 출력한다.
+   */
+  public void appendQueryMasked(StringBuilder b,
+    String query,
+    Charset charset,
+    int indentSize,
+    int maxParams,
+    boolean maskSensitive,
+    List<String> sensitiveKeys,
+    String replacement) {
+    if (query == null || query.isEmpty()) {
+      b.append("(empty)\n");
+      return;
+    }
+    String indent = " ".repeat(Math.max(0, indentSize));
+    int length = query.length();
+    int rendered = 0;
+    int start = 0;
+    while (start <= length) {
+      int end = query.indexOf('&', start);
+      if (end < 0) {
+        end = length;
+      }
+      if (end > start) {
+        if (maxParams > 0 && rendered >= maxParams) {
+          b.append(indent).append("... (").append(countSegments(query, start)).append(" more omitted)\n");
+          return;
+        }
+        int keyEnd = indexOf(query, '=', start, end);
+
+        b.append(indent).append("- ");
+        boolean masked;
+        if (needsDecoding(query, start, keyEnd)) {
+          String key = decode(query, start, keyEnd, charset);
+          masked = maskSensitive && containsIgnoreCase(sensitiveKeys, key);
+          b.append(key);
+        } else {
+          masked = maskSensitive && regionMatchesAny(sensitiveKeys, query, start, keyEnd);
+          b.append(query, start, keyEnd);
+        }
+        b.append(": ");
+
+        if (masked) {
+          b.append(replacement);
+        } else if (keyEnd < end) {
+          int valueStart = keyEnd + 1;
+          if (needsDecoding(query, valueStart, end)) {
+            b.append(decode(query, valueStart, end, charset));
+          } else {
+            b.append(query, valueStart, end);
+          }
+        }
+        b.append("\n");
+        rendered++;
+      }
+      start = end + 1;
+    }
+    if (rendered == 0) {
+      b.append("(empty)\n");
+    }
+  }
+
   public Map<String, List<String>> fromParamMap(Map<String, String[]> paramMap) {
     Map<String, List<String>> map = new LinkedHashMap<>();
     if (paramMap == null) {
@@ -79,6 +144,65 @@ public class KeyValueFormatter {
     return b.toString();
   }
 
+  // 현재 구간 [from, to) 안에서만 탐색 (없으면 to)
+  private int indexOf(String s, char c, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (s.charAt(i) == c) {
+        return i;
+      }
+    }
+    return to;
+  }
+
+  private boolean needsDecoding(String s, int from, int to) {
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      if (c == '%' || c == '+') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String decode(String s, int from, int to, Charset charset) {
+    String raw = s.substring(from, to);
+    try {
+      return URLDecoder.decode(raw, charset);
+    } catch (IllegalArgumentException e) {
+      return raw; // 잘못된 인코딩은 원문 그대로 출력
+    }
+  }
+
+  // 남은 구간 중 비어있지 않은 파라미터 개수
+  private int countSegments(String s, int from) {
+    int count = 0;
+    int segStart = from;
+    int length = s.length();
+    for (int i = from; i <= length; i++) {
+      if (i == length || s.charAt(i) == '&') {
+        if (i > segStart) {
+          count++;
+        }
+        segStart = i + 1;
+      }
+    }
+    return count;
+  }
+
+  // substring 없이 s[from, to) 구간이 키 목록 중 하나와 일치하는지 (대소문자 무시)
+  private boolean regionMatchesAny(List<String> keys, String s, int from, int to) {
+    if (keys == null) {
+      return false;
+    }
+    int len = to - from;
+    for (String k : keys) {
+      if (k != null && k.length() == len && s.regionMatches(true, from, k, 0, len)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private boolean containsIgnoreCase(List<String> keys, String name) {
     if (keys == null || name == null) {
       return false;
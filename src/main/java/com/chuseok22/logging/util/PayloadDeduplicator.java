@@ -0,0 +1,65 @@
+package com.chuseok22.logging.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 렌더링(마스킹 완료)된 페이로드의 중복 출력 제거
+ * <p>
+ * 페이로드의 64비트 해시를 고정 크기 해시 테이블(칸마다 해시 하나)에 기억해, 처음 본 페이로드만 전문을 출력하고
+ * 이후에는 해시 참조만 출력한다. 조회/갱신은 칸 하나에 대한 {@code getAndSet} 한 번이라 락이 없다.
+ * 같은 칸에 다른 페이로드가 들어오면 이전 해시는 밀려나고, 밀려난 페이로드는 다음에 다시 전문으로 출력된다.
+ */
+public class PayloadDeduplicator {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private static final int MAX_SLOTS = 1 << 20;
+
+  private final int minLength;
+  private final AtomicLongArray slots; // 0 = 빈 칸
+  private final int mask;
+
+  public PayloadDeduplicator(int windowSize, int minLength) {
+    // 칸 수는 windowSize 이상인 2의 거듭제곱
+    int capacity = Math.min(MAX_SLOTS, Math.max(1, windowSize));
+    int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+    this.minLength = Math.max(0, minLength);
+    this.slots = new AtomicLongArray(size);
+    this.mask = size - 1;
+  }
+
+  /**
+   * @param rendered 해시 대상 전문 (마스킹 완료)
+   * @param display  처음 출력할 때 사용할 문자열 (길이 제한 적용본)
+   */
+  public String apply(String rendered, String display) {
+    if (rendered == null || rendered.length() < minLength) {
+      return display;
+    }
+    long hash = hash(rendered);
+    long key = hash != 0L ? hash : 1L; // 0은 빈 칸 표시
+    // 같은 페이로드가 동시에 들어와도 getAndSet 순서상 하나만 이전 값이 다르므로 전문은 한 번만 출력
+    boolean firstSeen = slots.getAndSet(Long.hashCode(hash) & mask, key) != key;
+    String id = toHex(hash);
+    if (firstSeen) {
+      return "(payload#" + id + ")\n" + display;
+    }
+    return "(payload#" + id + ", " + rendered.length() + " chars, same as earlier log)";
+  }
+
+  // FNV-1a 64비트
+  static long hash(String s) {
+    long h = FNV_OFFSET;
+    for (int i = 0, n = s.length(); i < n; i++) {
+      h ^= s.charAt(i);
+      h *= FNV_PRIME;
+    }
+    return h;
+  }
+
+  private static String toHex(long hash) {
+    String hex = Long.toHexString(hash);
+    return hex.length() >= 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+  }
+}
@@ -0,0 +1,117 @@
+package com.chuseok22.logging.watchdog;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 실행 중인 @LogMonitoring 호출 하나 (워치독 레지스트리 항목)
+ * <p>
+ * 샘플은 워치독 스레드가 추가하고, 호출 스레드는 종료 후 {@link #complete(int)}로 스냅샷을 가져간다.
+ */
+public class InFlightCall {
+
+  // 애플리케이션 코드가 아닌 것으로 보는 프레임 (JDK/서블릿/스프링/주요 드라이버/이 라이브러리)
+  private static final String[] NON_APPLICATION_PREFIXES = {
+    "java.", "javax.", "jdk.", "sun.", "com.sun.", "jakarta.",
+    "org.springframework.", "org.apache.", "org.hibernate.", "org.aspectj.",
+    "com.zaxxer.", "com.mysql.", "org.postgresql.", "org.mariadb.", "io.netty.",
+    "com.fasterxml.", "org.slf4j.", "ch.qos.", "com.chuseok22.logging."
+  };
+
+  @Getter
+  private final String name;
+  @Getter
+  private final long startNanos;
+  final Thread thread;
+
+  // (최상단 프레임, 첫 애플리케이션 프레임) -> 샘플 수 (첫 샘플 때 생성: 빨리 끝나는 호출은 할당하지 않음)
+  private Map<List<String>, Integer> frameCounts;
+  // 쓰기는 락 안에서만, 읽기는 락 없이 (샘플 없는 호출의 complete()가 락을 잡지 않도록)
+  private volatile int sampleCount;
+  private boolean completed;
+
+  InFlightCall(String name, Thread thread) {
+    this.name = name;
+    this.thread = thread;
+    this.startNanos = System.nanoTime();
+  }
+
+  int getSampleCount() {
+    return sampleCount;
+  }
+
+  // 스택 최상단(실제 실행 중인) 프레임 + 그 아래 첫 애플리케이션 프레임 기준으로 집계
+  synchronized void addSample(StackTraceElement[] stack) {
+    if (completed || stack == null || stack.length == 0) {
+      return;
+    }
+    if (frameCounts == null) {
+      frameCounts = new LinkedHashMap<>();
+    }
+    sampleCount++;
+    String leaf = stack[0].toString();
+    StackTraceElement caller = firstApplicationFrame(stack);
+    String callerFrame = caller != null && caller != stack[0] ? caller.toString() : "";
+    frameCounts.merge(List.of(leaf, callerFrame), 1, Integer::sum);
+  }
+
+  static StackTraceElement firstApplicationFrame(StackTraceElement[] stack) {
+    for (StackTraceElement frame : stack) {
+      String className = frame.getClassName();
+      // CGLIB/JDK 프록시 프레임은 건너뜀
+      if (className.contains("$$") || className.startsWith("jdk.proxy")) {
+        continue;
+      }
+      if (!isNonApplication(className)) {
+        return frame;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isNonApplication(String className) {
+    for (String prefix : NON_APPLICATION_PREFIXES) {
+      if (className.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 샘플 수집을 끝내고 많이 잡힌 순서대로 상위 프레임을 반환
+   */
+  Snapshot complete(int topFrames) {
+    // 대부분의 호출(임계 시간 전에 끝난 호출)은 락 없이 바로 반환
+    // (레지스트리에서 이미 제거됐으므로 이후 늦게 들어온 샘플은 아무도 읽지 않음)
+    if (sampleCount == 0) {
+      return null;
+    }
+    return completeSampled(topFrames);
+  }
+
+  private synchronized Snapshot completeSampled(int topFrames) {
+    completed = true;
+    List<HotFrame> frames = new ArrayList<>(frameCounts.size());
+    frameCounts.forEach((key, count) -> frames.add(new HotFrame(key.get(0), key.get(1).isEmpty() ? null : key.get(1), count)));
+    frames.sort((a, b) -> Integer.compare(b.count(), a.count()));
+    List<HotFrame> top = topFrames > 0 && frames.size() > topFrames ? frames.subList(0, topFrames) : frames;
+    return new Snapshot(sampleCount, List.copyOf(top));
+  }
+
+  public record Snapshot(int sampleCount, List<HotFrame> hotFrames) {
+
+  }
+
+  /**
+   * @param frame       샘플 시점 스택 최상단 프레임
+   * @param callerFrame 그 아래 첫 애플리케이션 프레임 (최상단이 이미 애플리케이션 코드이거나 찾지 못하면 null)
+   * @param count       샘플 수
+   */
+  public record HotFrame(String frame, String callerFrame, int count) {
+
+  }
+}
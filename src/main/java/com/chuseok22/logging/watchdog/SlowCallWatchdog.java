@@ -0,0 +1,86 @@
+package com.chuseok22.logging.watchdog;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 느린 호출 워치독
+ * <p>
+ * 실행 중인 호출을 lock-free 레지스트리에 등록하고, 단일 스케줄러 스레드가 일정 간격으로 임계 시간을 넘긴 호출의 스택만 샘플링한다.
+ * 임계 시간 안에 끝나는 호출은 등록/해제 비용만 부담한다.
+ */
+@Slf4j
+public class SlowCallWatchdog implements AutoCloseable {
+
+  private final Set<InFlightCall> inFlight = ConcurrentHashMap.newKeySet();
+  private final ScheduledExecutorService scheduler;
+
+  private final long thresholdNanos;
+  private final long sampleIntervalMs;
+  private final long thresholdMs;
+  private final int maxSamples;
+  private final int topFrames;
+
+  public SlowCallWatchdog(long thresholdMs, long sampleIntervalMs, int maxSamples, int topFrames) {
+    this.thresholdMs = Math.max(0L, thresholdMs);
+    this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(this.thresholdMs);
+    this.sampleIntervalMs = Math.max(1L, sampleIntervalMs);
+    this.maxSamples = Math.max(1, maxSamples);
+    this.topFrames = topFrames;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "chuseok22-slow-call-watchdog");
+      t.setDaemon(true);
+      return t;
+    });
+    this.scheduler.scheduleAtFixedRate(this::sample, this.sampleIntervalMs, this.sampleIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  public InFlightCall register(String name) {
+    InFlightCall call = new InFlightCall(name, Thread.currentThread());
+    inFlight.add(call);
+    return call;
+  }
+
+  /**
+   * 레지스트리에서 제거하고 수집된 샘플을 반환 (샘플이 없으면 null)
+   */
+  public InFlightCall.Snapshot unregister(InFlightCall call) {
+    inFlight.remove(call);
+    return call.complete(topFrames);
+  }
+
+  public void render(StringBuilder b, InFlightCall.Snapshot snapshot) {
+    b.append("[SLOW CALL SAMPLES] ").append(snapshot.sampleCount()).append(" samples")
+      .append(" (every ").append(sampleIntervalMs).append(" ms after ").append(thresholdMs).append(" ms)\n");
+    for (InFlightCall.HotFrame f : snapshot.hotFrames()) {
+      b.append("  - ").append(f.count()).append("x ").append(f.frame()).append("\n");
+      if (f.callerFrame() != null) {
+        b.append("      from ").append(f.callerFrame()).append("\n");
+      }
+    }
+  }
+
+  void sample() {
+    try {
+      long now = System.nanoTime();
+      for (InFlightCall call : inFlight) {
+        if (now - call.getStartNanos() < thresholdNanos || call.getSampleCount() >= maxSamples) {
+          continue;
+        }
+        call.addSample(call.thread.getStackTrace());
+      }
+    } catch (Throwable t) {
+      log.debug("slow call sampling failed", t); // 스케줄러가 멈추지 않도록 예외를 삼킴
+    }
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    inFlight.clear();
+  }
+}
@@ -0,0 +1,82 @@
+package com.chuseok22.logging.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CallTreeContextTest {
+
+  @AfterEach
+  void clear() {
+    CallTreeContext ctx = CallTreeContext.current();
+    if (ctx != null) {
+      ctx.end(null);
+    }
+  }
+
+  @Test
+  void selfTimeIsTotalMinusChildren() throws Exception {
+    CallTreeContext tree = CallTreeContext.begin("Controller.handle");
+    CallNode first = tree.enter("Service.first");
+    Thread.sleep(5);
+    tree.exit(first, null);
+    CallNode second = tree.enter("Service.second");
+    Thread.sleep(5);
+    tree.exit(second, null);
+    tree.end(null);
+
+    CallNode root = tree.getRoot();
+    assertThat(root.getChildren()).containsExactly(first, second);
+    assertThat(root.getSelfNanos()).isEqualTo(root.getTotalNanos() - first.getTotalNanos() - second.getTotalNanos());
+    assertThat(first.getSelfNanos()).isEqualTo(first.getTotalNanos());
+    assertThat(root.getOutcome()).isEqualTo("OK");
+  }
+
+  @Test
+  void failedNestedCallIsMarkedAndCurrentReturnsToParent() {
+    CallTreeContext tree = CallTreeContext.begin("Controller.handle");
+    CallNode service = tree.enter("Service.run");
+    CallNode repository = tree.enter("Repository.save");
+    tree.exit(repository, new IllegalStateException("boom"));
+
+    // 실패한 호출 다음 호출은 실패한 노드가 아니라 그 부모(Service.run) 아래에 붙어야 함
+    CallNode retry = tree.enter("Repository.retry");
+    tree.exit(retry, null);
+    tree.exit(service, null);
+    CallNode after = tree.enter("Mapper.map");
+    tree.exit(after, null);
+    tree.end(null);
+
+    assertThat(repository.getOutcome()).isEqualTo("ERROR(IllegalStateException)");
+    assertThat(service.getChildren()).containsExactly(repository, retry);
+    assertThat(tree.getRoot().getChildren()).containsExactly(service, after);
+  }
+
+  @Test
+  void endClearsThreadLocal() {
+    CallTreeContext tree = CallTreeContext.begin("Controller.handle");
+    assertThat(CallTreeContext.current()).isSameAs(tree);
+
+    tree.end(new RuntimeException());
+
+    assertThat(CallTreeContext.current()).isNull();
+    assertThat(tree.getRoot().getOutcome()).isEqualTo("ERROR(RuntimeException)");
+  }
+
+  @Test
+  void renderPrintsIndentedTree() {
+    CallTreeContext tree = CallTreeContext.begin("Controller.handle");
+    CallNode child = tree.enter("Service.run");
+    tree.exit(child, null);
+    tree.end(null);
+
+    StringBuilder b = new StringBuilder();
+    tree.render(b);
+
+    String[] lines = b.toString().split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("  Controller.handle total=").endsWith(" OK");
+    assertThat(lines[1]).startsWith("    Service.run total=").contains(" self=").endsWith(" OK");
+  }
+}
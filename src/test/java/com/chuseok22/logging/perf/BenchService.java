@@ -0,0 +1,14 @@
+package com.chuseok22.logging.perf;
+
+import com.chuseok22.logging.annotation.LogMonitoring;
+
+/**
+ * 프록시 vs 생성 위임 클래스 벤치마크 대상 (logging-processor가 {@code BenchService$Logged}를 생성)
+ */
+public class BenchService {
+
+  @LogMonitoring
+  public int work(int x) {
+    return x * 31 + 7;
+  }
+}
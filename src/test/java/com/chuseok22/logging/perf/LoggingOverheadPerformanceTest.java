@@ -0,0 +1,332 @@
+package com.chuseok22.logging.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.logging.annotation.LogMonitoring;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 임베디드 톰캣 + 로컬 부하 발생기로 LoggingAutoConfiguration / MethodExecutionLoggingAspect 전체 스택의 오버헤드 측정
+ * <p>
+ * 시나리오마다 해당 프로퍼티로 샘플 앱을 새로 띄우므로, "default"는 라이브러리 기본값 그대로를 측정한다.
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew performanceTest}로 실행한다.
+ * 결과는 {@code perf.outputFile}(JSON)에 기록된다. 기준 파일이 없어도 절대 한도({@code perf.maxP50OverheadMs},
+ * {@code perf.maxP99OverheadMs})를 넘으면 실패하고, {@code perf.baselineFile}이 있으면 기준 대비 회귀 여부도 검사한다.
+ * p999는 요청 수 대비 표본이 너무 적어(5000건 기준 상위 5건) 기록만 하고 판정에는 쓰지 않는다.
+ */
+@Tag("performance")
+class LoggingOverheadPerformanceTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final int REQUESTS = Integer.getInteger("perf.requests", 5000);
+  private static final int WARMUP_REQUESTS = Integer.getInteger("perf.warmupRequests", 1000);
+  private static final int CONCURRENCY = Integer.getInteger("perf.concurrency", 8);
+  private static final double REGRESSION_THRESHOLD = Double.parseDouble(System.getProperty("perf.regressionThreshold", "0.25"));
+  private static final double REGRESSION_SLACK_MS = Double.parseDouble(System.getProperty("perf.regressionSlackMs", "1.0"));
+  private static final String OUTPUT_FILE = System.getProperty("perf.outputFile", "build/reports/perf/logging-overhead.json");
+  private static final String BASELINE_FILE = System.getProperty("perf.baselineFile");
+  // 기준 파일과 무관하게 항상 적용하는 절대 한도 (off 대비 오버헤드, ms)
+  private static final double MAX_P50_OVERHEAD_MS = Double.parseDouble(System.getProperty("perf.maxP50OverheadMs", "2.0"));
+  private static final double MAX_P99_OVERHEAD_MS = Double.parseDouble(System.getProperty("perf.maxP99OverheadMs", "10.0"));
+
+  // 톰캣 워커/폴러 스레드 이름 접두사 — 요청당 할당량은 서버 스레드만 집계
+  private static final String SERVER_THREAD_PREFIX = "http-nio-";
+
+  private static HttpClient client;
+  private static ExecutorService loadGenerator;
+
+  @BeforeAll
+  static void startLoadGenerator() {
+    client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+    loadGenerator = Executors.newFixedThreadPool(CONCURRENCY);
+  }
+
+  @AfterAll
+  static void stopLoadGenerator() {
+    loadGenerator.shutdownNow();
+  }
+
+  @Test
+  void measureLoggingOverhead() throws Exception {
+    String smallBody = MAPPER.writeValueAsString(samplePayload(3));
+    String largeBody = MAPPER.writeValueAsString(samplePayload(300));
+
+    Result offSmall = run("off", smallBody, "chuseok22.logging.enabled=false");
+    Result defaults = run("default", smallBody);
+    Result masking = run("masking", smallBody,
+      "chuseok22.logging.sensitive-keys=authorization,password,access-token,username");
+    Result offLarge = run("off-large-body", largeBody, "chuseok22.logging.enabled=false");
+    Result largeBodies = run("large-body", largeBody);
+
+    ArrayNode scenarios = MAPPER.createArrayNode();
+    scenarios.add(offSmall.toJson(null));
+    scenarios.add(defaults.toJson(offSmall));
+    scenarios.add(masking.toJson(offSmall));
+    scenarios.add(offLarge.toJson(null));
+    scenarios.add(largeBodies.toJson(offLarge));
+
+    ObjectNode report = MAPPER.createObjectNode();
+    report.put("timestamp", Instant.now().toString());
+    report.put("requests", REQUESTS);
+    report.put("warmupRequests", WARMUP_REQUESTS);
+    report.put("concurrency", CONCURRENCY);
+    report.put("javaVersion", System.getProperty("java.version"));
+    report.set("scenarios", scenarios);
+
+    File out = new File(OUTPUT_FILE);
+    out.getParentFile().mkdirs();
+    MAPPER.writerWithDefaultPrettyPrinter().writeValue(out, report);
+
+    assertThat(findRegressions(scenarios)).isEmpty();
+  }
+
+  // ===== load generator =====
+
+  private Result run(String name, String body, String... properties) throws Exception {
+    try (ConfigurableApplicationContext context = startApplication(properties)) {
+      int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+      HttpRequest request = HttpRequest.newBuilder()
+        .uri(URI.create("http://localhost:" + port + "/perf/echo?q=%ED%85%8C%EC%8A%A4%ED%8A%B8&page=1&size=20&sort=name&access-token=abc"))
+        .header("Content-Type", "application/json")
+        .header("Authorization", "Bearer perf-token")
+        .header("User-Agent", "logging-overhead-perf")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+
+      drive(request, WARMUP_REQUESTS);
+
+      Map<Long, Long> allocBefore = serverThreadAllocations();
+      long wallStart = System.nanoTime();
+      long[] latencies = drive(request, REQUESTS);
+      long wallNanos = System.nanoTime() - wallStart;
+      long allocated = allocatedSince(allocBefore);
+
+      Arrays.sort(latencies);
+      return new Result(name, latencies, wallNanos, (double) allocated / latencies.length);
+    }
+  }
+
+  private static ConfigurableApplicationContext startApplication(String... properties) {
+    return new SpringApplicationBuilder(PerfApplication.class)
+      .web(WebApplicationType.SERVLET)
+      .properties(
+        "server.port=0",
+        "spring.main.banner-mode=off",
+        "logging.file.name=build/reports/perf/logging-overhead.log",
+        "logging.pattern.console="
+      )
+      .properties(properties)
+      .run();
+  }
+
+  private long[] drive(HttpRequest request, int total) throws Exception {
+    int perWorker = Math.max(1, total / CONCURRENCY);
+    List<Future<long[]>> futures = new ArrayList<>();
+    for (int w = 0; w < CONCURRENCY; w++) {
+      futures.add(loadGenerator.submit(() -> {
+        long[] samples = new long[perWorker];
+        for (int i = 0; i < perWorker; i++) {
+          long t = System.nanoTime();
+          HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+          samples[i] = System.nanoTime() - t;
+          if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status " + response.statusCode());
+          }
+        }
+        return samples;
+      }));
+    }
+    long[] all = new long[perWorker * CONCURRENCY];
+    int offset = 0;
+    for (Future<long[]> f : futures) {
+      long[] part = f.get();
+      System.arraycopy(part, 0, all, offset, part.length);
+      offset += part.length;
+    }
+    return all;
+  }
+
+  // 서버(톰캣) 스레드별 누적 할당량 스냅샷 (thread id -> bytes)
+  private Map<Long, Long> serverThreadAllocations() {
+    Map<Long, Long> snapshot = new HashMap<>();
+    java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+    if (!(mx instanceof com.sun.management.ThreadMXBean sun) || !sun.isThreadAllocatedMemorySupported()) {
+      return snapshot;
+    }
+    long[] ids = mx.getAllThreadIds();
+    ThreadInfo[] infos = mx.getThreadInfo(ids);
+    long[] bytes = sun.getThreadAllocatedBytes(ids);
+    for (int i = 0; i < ids.length; i++) {
+      if (infos[i] != null && bytes[i] >= 0 && infos[i].getThreadName().startsWith(SERVER_THREAD_PREFIX)) {
+        snapshot.put(ids[i], bytes[i]);
+      }
+    }
+    return snapshot;
+  }
+
+  // 측정 구간 동안 서버 스레드가 할당한 양 (구간 중 새로 생긴 스레드는 0에서 시작한 것으로 계산)
+  private long allocatedSince(Map<Long, Long> before) {
+    long sum = 0L;
+    for (Map.Entry<Long, Long> e : serverThreadAllocations().entrySet()) {
+      sum += e.getValue() - before.getOrDefault(e.getKey(), 0L);
+    }
+    return sum;
+  }
+
+  // ===== regression check =====
+
+  private List<String> findRegressions(ArrayNode scenarios) throws Exception {
+    List<String> failures = new ArrayList<>();
+    for (JsonNode current : scenarios) {
+      if (!current.has("p99OverheadMs")) {
+        continue;
+      }
+      String name = current.path("name").asText();
+      if (current.path("p50OverheadMs").asDouble() > MAX_P50_OVERHEAD_MS) {
+        failures.add(name + ".p50OverheadMs=" + current.path("p50OverheadMs").asDouble() + " > " + MAX_P50_OVERHEAD_MS);
+      }
+      if (current.path("p99OverheadMs").asDouble() > MAX_P99_OVERHEAD_MS) {
+        failures.add(name + ".p99OverheadMs=" + current.path("p99OverheadMs").asDouble() + " > " + MAX_P99_OVERHEAD_MS);
+      }
+    }
+    if (BASELINE_FILE == null || !new File(BASELINE_FILE).isFile()) {
+      return failures;
+    }
+    Map<String, JsonNode> baseline = new LinkedHashMap<>();
+    for (JsonNode s : MAPPER.readTree(new File(BASELINE_FILE)).path("scenarios")) {
+      baseline.put(s.path("name").asText(), s);
+    }
+    for (JsonNode current : scenarios) {
+      JsonNode base = baseline.get(current.path("name").asText());
+      if (base == null || !current.has("p99OverheadMs")) {
+        continue;
+      }
+      for (String metric : List.of("p50OverheadMs", "p99OverheadMs")) {
+        double limit = Math.max(0.0, base.path(metric).asDouble()) * (1.0 + REGRESSION_THRESHOLD) + REGRESSION_SLACK_MS;
+        if (current.path(metric).asDouble() > limit) {
+          failures.add(current.path("name").asText() + "." + metric + "=" + current.path(metric).asDouble() + " > " + limit);
+        }
+      }
+      double baseAlloc = base.path("allocOverheadBytesPerRequest").asDouble();
+      double allocLimit = Math.max(0.0, baseAlloc) * (1.0 + REGRESSION_THRESHOLD);
+      if (baseAlloc > 0 && current.path("allocOverheadBytesPerRequest").asDouble() > allocLimit) {
+        failures.add(current.path("name").asText() + ".allocOverheadBytesPerRequest="
+          + current.path("allocOverheadBytesPerRequest").asDouble() + " > " + allocLimit);
+      }
+    }
+    return failures;
+  }
+
+  private static Map<String, Object> samplePayload(int items) {
+    List<Map<String, Object>> list = new ArrayList<>();
+    for (int i = 0; i < items; i++) {
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("id", i);
+      item.put("name", "item-" + i);
+      item.put("description", "reference data entry number " + i + " used for logging overhead measurement");
+      item.put("password", "secret-" + i);
+      item.put("tags", List.of("alpha", "beta", "gamma"));
+      list.add(item);
+    }
+    Map<String, Object> payload = new LinkedHashMap<>();
+    payload.put("username", "perf-user");
+    payload.put("password", "perf-password");
+    payload.put("items", list);
+    return payload;
+  }
+
+  private record Result(String name, long[] sortedLatencies, long wallNanos, double allocBytesPerRequest) {
+
+    double percentileMs(double p) {
+      int idx = (int) Math.ceil(p * sortedLatencies.length) - 1;
+      idx = Math.min(sortedLatencies.length - 1, Math.max(0, idx));
+      return sortedLatencies[idx] / 1_000_000.0;
+    }
+
+    double throughput() {
+      return sortedLatencies.length / (wallNanos / 1_000_000_000.0);
+    }
+
+    ObjectNode toJson(Result off) {
+      ObjectNode n = MAPPER.createObjectNode();
+      n.put("name", name);
+      n.put("baseline", off != null ? off.name : null);
+      n.put("throughputRps", throughput());
+      n.put("p50Ms", percentileMs(0.50));
+      n.put("p99Ms", percentileMs(0.99));
+      n.put("p999Ms", percentileMs(0.999));
+      n.put("allocBytesPerRequest", allocBytesPerRequest);
+      if (off != null) {
+        n.put("throughputRatio", throughput() / off.throughput());
+        n.put("p50OverheadMs", percentileMs(0.50) - off.percentileMs(0.50));
+        n.put("p99OverheadMs", percentileMs(0.99) - off.percentileMs(0.99));
+        n.put("p999OverheadMs", percentileMs(0.999) - off.percentileMs(0.999));
+        n.put("allocOverheadBytesPerRequest", allocBytesPerRequest - off.allocBytesPerRequest);
+      }
+      return n;
+    }
+  }
+
+  // ===== sample app =====
+
+  @SpringBootConfiguration
+  @EnableAutoConfiguration
+  @Import(PerfController.class)
+  static class PerfApplication {
+
+  }
+
+  @RestController
+  static class PerfController {
+
+    @LogMonitoring
+    @PostMapping("/perf/echo")
+    public Map<String, Object> echo(@RequestBody Map<String, Object> body,
+      @RequestParam(required = false) String q) {
+      Map<String, Object> result = new LinkedHashMap<>();
+      result.put("query", q);
+      result.put("echo", body);
+      return result;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.chuseok22.logging.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.logging.aspect.MethodExecutionLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.function.IntUnaryOperator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 같은 메서드를 Spring AOP 프록시 경로와 logging-processor가 생성한 {@code BenchService$Logged} 위임 클래스로 호출해 호출당 비용 비교
+ * <p>
+ * 두 경로 모두 {@link MethodExecutionLogger}의 같은 렌더링 코드를 거치므로, 차이는 조인포인트/인자 배열/어드바이스 체인
+ * 디스패치 비용이다. 생성 클래스는 상수 메타데이터로 대상 메서드를 직접 호출하고 람다를 만들지 않는다.
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew performanceTest}로 실행하고, 결과는 {@code perf.benchOutputFile}(JSON)에 기록된다.
+ */
+@Tag("performance")
+class ProxyVersusDirectPerformanceTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final int ITERATIONS = Integer.getInteger("perf.benchIterations", 200_000);
+  private static final int WARMUP_ITERATIONS = Integer.getInteger("perf.benchWarmupIterations", 50_000);
+  private static final String OUTPUT_FILE = System.getProperty("perf.benchOutputFile", "build/reports/perf/proxy-vs-direct.json");
+
+  // 결과를 버리지 않도록 누적 (JIT의 호출 제거 방지)
+  private static long sink;
+
+  @Test
+  void compareProxyAndDirectCalls() throws Exception {
+    ArrayNode scenarios = MAPPER.createArrayNode();
+    for (String enabled : new String[]{"false", "true"}) {
+      try (ConfigurableApplicationContext context = startApplication("chuseok22.logging.enabled=" + enabled)) {
+        BenchService proxied = context.getBean(BenchService.class);
+        assertThat(AopUtils.isAopProxy(proxied)).isTrue();
+        BenchService$Logged generated = new BenchService$Logged(new BenchService(), context.getBean(MethodExecutionLogger.class));
+
+        String suffix = "true".equals(enabled) ? "" : "-off";
+        scenarios.add(measure("proxy" + suffix, proxied::work).toJson());
+        scenarios.add(measure("generated" + suffix, generated::work).toJson());
+      }
+    }
+
+    ObjectNode report = MAPPER.createObjectNode();
+    report.put("timestamp", Instant.now().toString());
+    report.put("iterations", ITERATIONS);
+    report.put("warmupIterations", WARMUP_ITERATIONS);
+    report.put("javaVersion", System.getProperty("java.version"));
+    report.put("sink", sink);
+    report.set("scenarios", scenarios);
+
+    File out = new File(OUTPUT_FILE);
+    out.getParentFile().mkdirs();
+    MAPPER.writerWithDefaultPrettyPrinter().writeValue(out, report);
+  }
+
+  private static Result measure(String name, IntUnaryOperator call) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      sink += call.applyAsInt(i);
+    }
+    long allocBefore = currentThreadAllocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      sink += call.applyAsInt(i);
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = currentThreadAllocatedBytes() - allocBefore;
+    return new Result(name, (double) elapsed / ITERATIONS, allocBefore >= 0 ? (double) allocated / ITERATIONS : -1);
+  }
+
+  private static long currentThreadAllocatedBytes() {
+    java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+    if (mx instanceof com.sun.management.ThreadMXBean sun && sun.isThreadAllocatedMemorySupported()) {
+      return sun.getCurrentThreadAllocatedBytes();
+    }
+    return -1L;
+  }
+
+  private static ConfigurableApplicationContext startApplication(String... properties) {
+    return new SpringApplicationBuilder(BenchApplication.class)
+      .web(WebApplicationType.SERVLET)
+      .properties(
+        "server.port=0",
+        "spring.main.banner-mode=off",
+        "logging.file.name=build/reports/perf/proxy-vs-direct.log",
+        "logging.pattern.console="
+      )
+      .properties(properties)
+      .run();
+  }
+
+  private record Result(String name, double nanosPerCall, double allocBytesPerCall) {
+
+    ObjectNode toJson() {
+      ObjectNode n = MAPPER.createObjectNode();
+      n.put("name", name);
+      n.put("nanosPerCall", nanosPerCall);
+      n.put("allocBytesPerCall", allocBytesPerCall);
+      return n;
+    }
+  }
+
+  // ===== sample app =====
+
+  @SpringBootConfiguration
+  @EnableAutoConfiguration
+  @Import(BenchService.class)
+  static class BenchApplication {
+
+  }
+}
@@ -0,0 +1,117 @@
+package com.chuseok22.logging.summary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  private static final int TOP_BUCKET = 303;
+
+  @Test
+  void valuesBelowEightMapToTheirOwnBucket() {
+    for (long v = 0; v < 8; v++) {
+      assertThat(LatencyHistogram.index(v)).isEqualTo((int) v);
+      assertThat(LatencyHistogram.upperBound((int) v)).isEqualTo(v);
+    }
+  }
+
+  @Test
+  void valuesEightToFifteenAreStillExact() {
+    for (long v = 8; v < 16; v++) {
+      assertThat(LatencyHistogram.index(v)).isEqualTo((int) v);
+      assertThat(LatencyHistogram.upperBound((int) v)).isEqualTo(v);
+    }
+  }
+
+  @Test
+  void powersOfTwoStartANewGroupOfEightBuckets() {
+    assertThat(LatencyHistogram.index(16)).isEqualTo(16);
+    assertThat(LatencyHistogram.index(17)).isEqualTo(16);
+    assertThat(LatencyHistogram.index(31)).isEqualTo(23);
+    assertThat(LatencyHistogram.index(32)).isEqualTo(24);
+    assertThat(LatencyHistogram.index(64)).isEqualTo(32);
+    assertThat(LatencyHistogram.index(1024)).isEqualTo(64);
+    assertThat(LatencyHistogram.index(1L << 39)).isEqualTo(296);
+  }
+
+  @Test
+  void valuesBeyondRangeClampToTopBucket() {
+    assertThat(LatencyHistogram.index((1L << 40) - 1)).isEqualTo(TOP_BUCKET);
+    assertThat(LatencyHistogram.index(1L << 40)).isEqualTo(TOP_BUCKET);
+    assertThat(LatencyHistogram.index(Long.MAX_VALUE)).isEqualTo(TOP_BUCKET);
+  }
+
+  @Test
+  void bucketBoundsAreContiguous() {
+    for (int i = 0; i <= TOP_BUCKET; i++) {
+      assertThat(LatencyHistogram.index(LatencyHistogram.upperBound(i))).isEqualTo(i);
+      if (i > 0) {
+        assertThat(LatencyHistogram.index(LatencyHistogram.upperBound(i - 1) + 1)).isEqualTo(i);
+      }
+    }
+  }
+
+  @Test
+  void percentilesOfUniformDistribution() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int micros = 1; micros <= 100; micros++) {
+      histogram.record(micros * 1_000L);
+    }
+
+    LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+    assertThat(snapshot.total()).isEqualTo(100);
+    assertThat(snapshot.maxMicros()).isEqualTo(100);
+    assertThat(snapshot.percentileMicros(0.50)).isEqualTo(51); // 48~51 버킷 상한
+    assertThat(snapshot.percentileMicros(0.95)).isEqualTo(95); // 88~95 버킷 상한
+    assertThat(snapshot.percentileMicros(0.99)).isEqualTo(100); // 96~103 버킷 상한은 max로 제한
+    assertThat(snapshot.percentileMicros(1.0)).isEqualTo(100);
+  }
+
+  @Test
+  void percentilesOfConstantDistributionEqualTheValue() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 1_000; i++) {
+      histogram.record(5_000_000L);
+    }
+
+    LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+    assertThat(snapshot.percentileMicros(0.50)).isEqualTo(5_000);
+    assertThat(snapshot.percentileMicros(0.99)).isEqualTo(5_000);
+  }
+
+  @Test
+  void percentilesOfBimodalDistribution() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 90; i++) {
+      histogram.record(10_000L);
+    }
+    for (int i = 0; i < 10; i++) {
+      histogram.record(10_000_000L);
+    }
+
+    LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+    assertThat(snapshot.percentileMicros(0.50)).isEqualTo(10);
+    assertThat(snapshot.percentileMicros(0.90)).isEqualTo(10);
+    assertThat(snapshot.percentileMicros(0.91)).isEqualTo(10_000);
+    assertThat(snapshot.percentileMicros(0.99)).isEqualTo(10_000);
+  }
+
+  @Test
+  void snapshotResetsAndSubMicrosecondValuesLandInFirstBucket() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(999L);
+    histogram.record(-5L);
+
+    LatencyHistogram.Snapshot first = histogram.snapshotAndReset();
+    LatencyHistogram.Snapshot second = histogram.snapshotAndReset();
+
+    assertThat(first.counts()[0]).isEqualTo(2);
+    assertThat(first.maxMicros()).isZero();
+    assertThat(second.total()).isZero();
+    assertThat(second.percentileMicros(0.50)).isZero();
+  }
+}
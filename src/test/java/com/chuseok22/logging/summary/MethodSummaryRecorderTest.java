@@ -0,0 +1,75 @@
+package com.chuseok22.logging.summary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+
+class MethodSummaryRecorderTest {
+
+  private static Method method() throws NoSuchMethodException {
+    return Object.class.getMethod("toString");
+  }
+
+  @Test
+  void schedulerStartsOnFirstRecord() throws Exception {
+    try (MethodSummaryRecorder recorder = new MethodSummaryRecorder(60)) {
+      assertThat(recorder.isStarted()).isFalse();
+
+      recorder.record(method(), 1_000L, false);
+
+      assertThat(recorder.isStarted()).isTrue();
+    }
+  }
+
+  @Test
+  void closeWithoutRecordsDoesNotStartScheduler() {
+    MethodSummaryRecorder recorder = new MethodSummaryRecorder(60);
+    recorder.close();
+
+    assertThat(recorder.isStarted()).isFalse();
+  }
+
+  @Test
+  void recordAfterCloseDoesNotStartScheduler() throws Exception {
+    MethodSummaryRecorder recorder = new MethodSummaryRecorder(60);
+    recorder.close();
+
+    recorder.record(method(), 1_000L, false);
+
+    assertThat(recorder.isStarted()).isFalse();
+  }
+
+  @Test
+  void labelsOverloadedMethodsWithParameterTypes() throws Exception {
+    assertThat(MethodSummaryRecorder.label(Sample.class.getDeclaredMethod("single")))
+      .isEqualTo("Sample.single");
+    assertThat(MethodSummaryRecorder.label(Sample.class.getDeclaredMethod("find", Long.class)))
+      .isEqualTo("Sample.find(Long)");
+    assertThat(MethodSummaryRecorder.label(Sample.class.getDeclaredMethod("find", String.class, int.class)))
+      .isEqualTo("Sample.find(String, int)");
+  }
+
+  @Test
+  void bridgeMethodsAreNotOverloads() throws Exception {
+    assertThat(MethodSummaryRecorder.label(Sample.class.getDeclaredMethod("compareTo", Sample.class)))
+      .isEqualTo("Sample.compareTo");
+  }
+
+  static class Sample implements Comparable<Sample> {
+
+    void single() {
+    }
+
+    void find(Long id) {
+    }
+
+    void find(String name, int limit) {
+    }
+
+    @Override
+    public int compareTo(Sample o) {
+      return 0;
+    }
+  }
+}
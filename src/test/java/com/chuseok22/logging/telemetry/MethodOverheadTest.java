@@ -0,0 +1,43 @@
+package com.chuseok22.logging.telemetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MethodOverheadTest {
+
+  @Test
+  void accumulatesCountTotalAndMaxPerStage() {
+    MethodOverhead overhead = new MethodOverhead("OrderController.create");
+
+    overhead.record(OverheadStage.ARGS, 100L);
+    overhead.record(OverheadStage.ARGS, 300L);
+    overhead.record(OverheadStage.RESULT, 50L);
+
+    assertThat(overhead.count(OverheadStage.ARGS)).isEqualTo(2L);
+    assertThat(overhead.totalNanos(OverheadStage.ARGS)).isEqualTo(400L);
+    assertThat(overhead.maxNanos(OverheadStage.ARGS)).isEqualTo(300L);
+    assertThat(overhead.count(OverheadStage.HEADERS)).isZero();
+    assertThat(overhead.totalNanos()).isEqualTo(450L);
+  }
+
+  @Test
+  void keepsOnlyTheLargestPayloadPerStage() {
+    MethodOverhead overhead = new MethodOverhead("OrderController.create");
+
+    overhead.updateLargestPayload(OverheadStage.ARGS, 10L, "OrderRequest");
+    assertThat(overhead.isLargerPayload(OverheadStage.ARGS, 10L)).isFalse();
+    assertThat(overhead.isLargerPayload(OverheadStage.ARGS, 11L)).isTrue();
+
+    overhead.updateLargestPayload(OverheadStage.ARGS, 5L, "String");
+    overhead.updateLargestPayload(OverheadStage.ARGS, 20L, "BulkOrderRequest");
+    overhead.updateLargestPayload(OverheadStage.RESULT, 7L, "OrderResponse");
+
+    assertThat(overhead.largestPayloads())
+      .containsExactly(
+        Map.entry("args", Map.of("type", "BulkOrderRequest", "chars", 20L)),
+        Map.entry("result", Map.of("type", "OrderResponse", "chars", 7L))
+      );
+  }
+}
@@ -0,0 +1,32 @@
+package com.chuseok22.logging.telemetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class OverheadEndpointTest {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void listsMethodsByTotalOverheadWithUsedStagesOnly() {
+    OverheadRecorder recorder = new OverheadRecorder();
+    recorder.forMethod("OrderController.list").record(OverheadStage.ARGS, 1_000L);
+    MethodOverhead create = recorder.forMethod("OrderController.create");
+    create.record(OverheadStage.RESULT, 2_000_000L);
+    create.record(OverheadStage.RESULT, 4_000_000L);
+    create.updateLargestPayload(OverheadStage.RESULT, 4_096L, "OrderResponse");
+
+    Map<String, Object> body = new OverheadEndpoint(recorder).overhead();
+
+    assertThat(body.keySet()).containsExactly("OrderController.create", "OrderController.list");
+
+    Map<String, Object> entry = (Map<String, Object>) body.get("OrderController.create");
+    assertThat(entry.get("totalMs")).isEqualTo(6.0);
+    assertThat((Map<String, Object>) entry.get("stages"))
+      .containsOnlyKeys("result")
+      .containsEntry("result", Map.of("count", 2L, "totalMs", 6.0, "avgMicros", 3_000.0, "maxMicros", 4_000.0));
+    assertThat((Map<String, Object>) entry.get("largestPayloads"))
+      .containsEntry("result", Map.of("type", "OrderResponse", "chars", 4_096L));
+  }
+}
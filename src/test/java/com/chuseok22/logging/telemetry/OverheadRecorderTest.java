@@ -0,0 +1,37 @@
+package com.chuseok22.logging.telemetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OverheadRecorderTest {
+
+  @Test
+  void returnsSameInstancePerMethod() {
+    OverheadRecorder recorder = new OverheadRecorder();
+
+    MethodOverhead first = recorder.forMethod("OrderController.create");
+
+    assertThat(recorder.forMethod("OrderController.create")).isSameAs(first);
+    assertThat(recorder.methods()).containsExactly(first);
+  }
+
+  @Test
+  void listenerRegisteredLaterReceivesExistingAndNewMethodsOnce() {
+    OverheadRecorder recorder = new OverheadRecorder();
+    recorder.forMethod("OrderController.create");
+    recorder.forMethod("OrderController.cancel");
+
+    List<String> notified = new ArrayList<>();
+    recorder.onNewMethod(m -> notified.add(m.getName()));
+
+    assertThat(notified).containsExactlyInAnyOrder("OrderController.create", "OrderController.cancel");
+
+    recorder.forMethod("OrderController.create");
+    recorder.forMethod("OrderController.list");
+
+    assertThat(notified).hasSize(3).endsWith("OrderController.list");
+  }
+}
@@ -0,0 +1,77 @@
+package com.chuseok22.logging.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class HeaderLoggingPlanTest {
+
+  private static MockHttpServletRequest request() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Host", "localhost");
+    request.addHeader("Authorization", "Bearer token");
+    request.addHeader("Accept", "text/html");
+    request.addHeader("Accept", "application/json");
+    request.addHeader("User-Agent", "abcdefgh");
+    return request;
+  }
+
+  private static String render(HeaderLoggingPlan plan) {
+    StringBuilder b = new StringBuilder();
+    plan.appendRequestHeaders(b, request(), 2, true, "****");
+    return b.toString();
+  }
+
+  @Test
+  void rendersAllHeadersWithMaskingWhenNoListsConfigured() {
+    HeaderLoggingPlan plan = new HeaderLoggingPlan(List.of(), List.of(), List.of("authorization"), Map.of(), 0);
+
+    assertThat(render(plan)).isEqualTo(
+      "  - Host: localhost\n"
+        + "  - Authorization: ****\n"
+        + "  - Accept: text/html, application/json\n"
+        + "  - User-Agent: abcdefgh\n");
+  }
+
+  @Test
+  void allowlistRendersOnlyListedHeadersInConfiguredOrder() {
+    HeaderLoggingPlan plan = new HeaderLoggingPlan(List.of("user-agent", " HOST "), List.of(), List.of(), Map.of(), 0);
+
+    assertThat(render(plan)).isEqualTo(
+      "  - user-agent: abcdefgh\n"
+        + "  - HOST: localhost\n");
+    assertThat(plan.isIncluded("Host")).isTrue();
+    assertThat(plan.isIncluded("Accept")).isFalse();
+  }
+
+  @Test
+  void allowlistFullyRemovedByDenylistRendersNothing() {
+    HeaderLoggingPlan plan = new HeaderLoggingPlan(List.of("authorization"), List.of("Authorization"), List.of(), Map.of(), 0);
+
+    assertThat(render(plan)).isEmpty();
+    assertThat(plan.isIncluded("Host")).isFalse();
+  }
+
+  @Test
+  void denylistSkipsHeadersIgnoringCase() {
+    HeaderLoggingPlan plan = new HeaderLoggingPlan(List.of(), List.of("accept", " user-agent"), List.of(), Map.of(), 0);
+
+    assertThat(render(plan)).isEqualTo(
+      "  - Host: localhost\n"
+        + "  - Authorization: Bearer token\n");
+    assertThat(plan.isIncluded("ACCEPT")).isFalse();
+  }
+
+  @Test
+  void capsValuesPerHeaderBeforeDefaultCap() {
+    HeaderLoggingPlan plan = new HeaderLoggingPlan(
+      List.of("user-agent", "accept"), List.of(), List.of(), Map.of("USER-AGENT", 3), 12);
+
+    assertThat(render(plan)).isEqualTo(
+      "  - user-agent: abc...(생략됨)\n"
+        + "  - accept: text/html, a...(생략됨)\n");
+  }
+}
@@ -0,0 +1,87 @@
+package com.chuseok22.logging.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class KeyValueFormatterTest {
+
+  private static String render(String query, int maxParams, List<String> sensitiveKeys) {
+    StringBuilder b = new StringBuilder();
+    KeyValueFormatter.appendQueryMasked(b, query, StandardCharsets.UTF_8, 2, maxParams, true, sensitiveKeys, "****");
+    return b.toString();
+  }
+
+  @Test
+  void plainAndEncodedKeysAndValues() {
+    String out = render("page=1&name=%ED%85%8C%EC%8A%A4%ED%8A%B8&%EC%9D%B4%EB%A6%84=kim", 0, List.of());
+
+    assertThat(out).isEqualTo(
+      "  - page: 1\n"
+        + "  - name: 테스트\n"
+        + "  - 이름: kim\n");
+  }
+
+  @Test
+  void plusIsDecodedAsSpaceAndEncodedPlusIsKept() {
+    assertThat(render("q=hello+world&tag=a%2Bb", 0, List.of())).isEqualTo(
+      "  - q: hello world\n"
+        + "  - tag: a+b\n");
+  }
+
+  @Test
+  void masksPlainAndEncodedSensitiveKeysIgnoringCase() {
+    String out = render("access%2Dtoken=abc&Password=pw&page=1", 0, List.of("access-token", "password"));
+
+    assertThat(out).isEqualTo(
+      "  - access-token: ****\n"
+        + "  - Password: ****\n"
+        + "  - page: 1\n");
+  }
+
+  @Test
+  void skipsEmptySegmentsAndTrailingAmpersand() {
+    assertThat(render("&a=1&&b&", 0, List.of())).isEqualTo(
+      "  - a: 1\n"
+        + "  - b: \n");
+  }
+
+  @Test
+  void emptyQueryRendersEmptyMarker() {
+    assertThat(render(null, 0, List.of())).isEqualTo("(empty)\n");
+    assertThat(render("", 0, List.of())).isEqualTo("(empty)\n");
+    assertThat(render("&&&", 0, List.of())).isEqualTo("(empty)\n");
+  }
+
+  @Test
+  void capsRenderedParamsAndReportsOmittedCount() {
+    assertThat(render("a=1&b=2&c=3&&d=4&e", 2, List.of())).isEqualTo(
+      "  - a: 1\n"
+        + "  - b: 2\n"
+        + "  ... (3 more omitted)\n");
+  }
+
+  @Test
+  void repeatedKeysRenderOneLineEach() {
+    assertThat(render("a=1&a=2", 0, List.of())).isEqualTo(
+      "  - a: 1\n"
+        + "  - a: 2\n");
+  }
+
+  @Test
+  void malformedEncodingIsRenderedRaw() {
+    assertThat(render("a=%ZZ&b=%E", 0, List.of())).isEqualTo(
+      "  - a: %ZZ\n"
+        + "  - b: %E\n");
+  }
+
+  @Test
+  void keysWithoutEqualsDoNotBorrowLaterValues() {
+    assertThat(render("a&b&c=1", 0, List.of())).isEqualTo(
+      "  - a: \n"
+        + "  - b: \n"
+        + "  - c: 1\n");
+  }
+}
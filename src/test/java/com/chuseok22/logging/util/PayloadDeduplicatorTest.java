@@ -0,0 +1,86 @@
+package com.chuseok22.logging.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class PayloadDeduplicatorTest {
+
+  private static final String PAYLOAD = "{\"items\":[" + "1,".repeat(20) + "0]}";
+  private static final String OTHER = "{\"items\":[" + "2,".repeat(20) + "0]}";
+
+  private static String id(String rendered) {
+    return String.format("%016x", PayloadDeduplicator.hash(rendered));
+  }
+
+  @Test
+  void firstOccurrencePrintsHashAndFullText() {
+    PayloadDeduplicator dedup = new PayloadDeduplicator(16, 10);
+
+    assertThat(dedup.apply(PAYLOAD, PAYLOAD)).isEqualTo("(payload#" + id(PAYLOAD) + ")\n" + PAYLOAD);
+  }
+
+  @Test
+  void repeatPrintsReferenceOnly() {
+    PayloadDeduplicator dedup = new PayloadDeduplicator(16, 10);
+    dedup.apply(PAYLOAD, PAYLOAD);
+
+    assertThat(dedup.apply(PAYLOAD, PAYLOAD))
+      .isEqualTo("(payload#" + id(PAYLOAD) + ", " + PAYLOAD.length() + " chars, same as earlier log)");
+  }
+
+  @Test
+  void shorterThanMinLengthPassesThrough() {
+    PayloadDeduplicator dedup = new PayloadDeduplicator(16, PAYLOAD.length() + 1);
+
+    assertThat(dedup.apply(PAYLOAD, PAYLOAD)).isEqualTo(PAYLOAD);
+    assertThat(dedup.apply(PAYLOAD, PAYLOAD)).isEqualTo(PAYLOAD);
+    assertThat(dedup.apply(null, "null")).isEqualTo("null");
+  }
+
+  @Test
+  void evictedPayloadIsPrintedInFullAgain() {
+    PayloadDeduplicator dedup = new PayloadDeduplicator(1, 10);
+
+    dedup.apply(PAYLOAD, PAYLOAD);
+    dedup.apply(OTHER, OTHER);
+
+    assertThat(dedup.apply(PAYLOAD, PAYLOAD)).isEqualTo("(payload#" + id(PAYLOAD) + ")\n" + PAYLOAD);
+  }
+
+  @Test
+  void hashesFullTextButShowsTruncatedText() {
+    PayloadDeduplicator dedup = new PayloadDeduplicator(16, 10);
+    String truncated = PAYLOAD.substring(0, 12) + "...(truncated)";
+
+    assertThat(dedup.apply(PAYLOAD, truncated)).isEqualTo("(payload#" + id(PAYLOAD) + ")\n" + truncated);
+    // 표시 문자열이 같아도 전문이 다르면 다른 페이로드
+    assertThat(dedup.apply(OTHER, truncated)).startsWith("(payload#" + id(OTHER) + ")\n");
+    assertThat(dedup.apply(PAYLOAD, truncated)).contains(PAYLOAD.length() + " chars, same as earlier log");
+  }
+
+  @Test
+  void concurrentFirstOccurrencesPrintFullTextOnce() throws Exception {
+    PayloadDeduplicator dedup = new PayloadDeduplicator(16, 10);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      Callable<Boolean> task = () -> dedup.apply(PAYLOAD, PAYLOAD).endsWith(PAYLOAD);
+      List<Future<Boolean>> results = executor.invokeAll(Collections.nCopies(64, task));
+      long full = 0;
+      for (Future<Boolean> r : results) {
+        if (r.get()) {
+          full++;
+        }
+      }
+      assertThat(full).isEqualTo(1L);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.chuseok22.logging.watchdog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class InFlightCallTest {
+
+  private static StackTraceElement frame(String className, String method, int line) {
+    String file = className.substring(className.lastIndexOf('.') + 1) + ".java";
+    return new StackTraceElement(className, method, file, line);
+  }
+
+  private static final StackTraceElement SOCKET_READ = frame("java.net.SocketInputStream", "read", 10);
+  private static final StackTraceElement DRIVER = frame("com.mysql.cj.protocol.ReadAheadInputStream", "fill", 20);
+  private static final StackTraceElement PROXY = frame("com.example.ReportRepository$$SpringCGLIB$$0", "load", -1);
+  private static final StackTraceElement REPOSITORY = frame("com.example.ReportRepository", "load", 42);
+  private static final StackTraceElement SERVICE = frame("com.example.ReportService", "aggregate", 88);
+
+  @Test
+  void firstApplicationFrameSkipsJdkFrameworkAndProxyFrames() {
+    StackTraceElement[] stack = {SOCKET_READ, DRIVER, PROXY, REPOSITORY, SERVICE};
+
+    assertThat(InFlightCall.firstApplicationFrame(stack)).isEqualTo(REPOSITORY);
+    assertThat(InFlightCall.firstApplicationFrame(new StackTraceElement[]{SOCKET_READ, DRIVER})).isNull();
+  }
+
+  @Test
+  void groupsSamplesByLeafAndCallerFrame() {
+    InFlightCall call = new InFlightCall("ReportService.aggregate", Thread.currentThread());
+    call.addSample(new StackTraceElement[]{SOCKET_READ, DRIVER, REPOSITORY, SERVICE});
+    call.addSample(new StackTraceElement[]{SOCKET_READ, DRIVER, REPOSITORY, SERVICE});
+    call.addSample(new StackTraceElement[]{SOCKET_READ, SERVICE});
+    call.addSample(new StackTraceElement[]{SERVICE});
+
+    InFlightCall.Snapshot snapshot = call.complete(0);
+
+    assertThat(snapshot.sampleCount()).isEqualTo(4);
+    assertThat(snapshot.hotFrames()).containsExactly(
+      new InFlightCall.HotFrame(SOCKET_READ.toString(), REPOSITORY.toString(), 2),
+      new InFlightCall.HotFrame(SOCKET_READ.toString(), SERVICE.toString(), 1),
+      // 최상단이 이미 애플리케이션 코드면 caller 없음
+      new InFlightCall.HotFrame(SERVICE.toString(), null, 1));
+  }
+
+  @Test
+  void completeLimitsHotFramesAndIgnoresLateSamples() {
+    InFlightCall call = new InFlightCall("ReportService.aggregate", Thread.currentThread());
+    call.addSample(new StackTraceElement[]{SERVICE});
+    call.addSample(new StackTraceElement[]{SERVICE});
+    call.addSample(new StackTraceElement[]{REPOSITORY});
+
+    InFlightCall.Snapshot snapshot = call.complete(1);
+    call.addSample(new StackTraceElement[]{REPOSITORY});
+
+    assertThat(snapshot.hotFrames()).containsExactly(new InFlightCall.HotFrame(SERVICE.toString(), null, 2));
+    assertThat(call.getSampleCount()).isEqualTo(3);
+  }
+
+  @Test
+  void completeWithoutSamplesReturnsNull() {
+    InFlightCall call = new InFlightCall("ReportService.aggregate", Thread.currentThread());
+
+    assertThat(call.complete(5)).isNull();
+  }
+}